@@ -0,0 +1,75 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.inventoryservice.model.Product;
+import com.ecommerce.orderservice.dto.OrderItemRequest;
+import com.ecommerce.orderservice.dto.OrderRequest;
+import com.ecommerce.orderservice.model.Money;
+import com.ecommerce.orderservice.model.Order;
+import com.ecommerce.orderservice.model.OrderItem;
+import com.ecommerce.orderservice.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic domain objects shared by the benchmark suites.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Order order(int itemCount) {
+        Order order = new Order();
+        order.setId(1001L);
+        order.setCustomerName("Jane Smith");
+        order.setCustomerEmail("jane@example.com");
+        order.setCustomerPhone("919876543210");
+        order.setShippingAddress("456 Oak Ave, Boston, MA 02101");
+        order.setStatus(OrderStatus.PENDING);
+
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setId((long) i + 1);
+            item.setProductId((long) i + 1);
+            item.setProductName("Product " + (i + 1));
+            item.setQuantity(1 + i % 5);
+            item.setPrice(Money.ofMinor(1999 + 100L * i));
+            item.calculateSubtotal();
+            order.addOrderItem(item);
+        }
+        order.calculateTotalAmount();
+        return order;
+    }
+
+    static OrderRequest orderRequest(int itemCount) {
+        List<OrderItemRequest> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItemRequest((long) i + 1, 1 + i % 5));
+        }
+        return new OrderRequest(
+                "Jane Smith",
+                "jane@example.com",
+                "919876543210",
+                "456 Oak Ave, Boston, MA 02101",
+                items
+        );
+    }
+
+    static Product product() {
+        Product product = new Product();
+        product.setId(1L);
+        product.setSku("LAPTOP-001");
+        product.setName("MacBook Pro 16\"");
+        product.setDescription("16-inch MacBook Pro with M3 chip, 16GB RAM, 512GB SSD");
+        product.setPrice(new BigDecimal("2499.99"));
+        product.setStockQuantity(50);
+        product.setActive(true);
+        product.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        product.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+        product.setVersion(3L);
+        return product;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.orderservice.model.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order pricing with {@link BigDecimal} compared with {@link Money} in long minor units:
+ * parsing the product prices read from inventory, computing the line subtotals and
+ * summing the order total, and rendering the amounts for the order event. Run with
+ * {@code -prof gc} to compare allocation as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MoneyBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private String[] prices;
+    private int[] quantities;
+    private BigDecimal[] decimalPrices;
+    private Money[] moneyPrices;
+
+    @Setup
+    public void setUp() {
+        prices = new String[itemCount];
+        quantities = new int[itemCount];
+        decimalPrices = new BigDecimal[itemCount];
+        moneyPrices = new Money[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            prices[i] = (19 + i) + ".99";
+            quantities[i] = 1 + i % 5;
+            decimalPrices[i] = new BigDecimal(prices[i]);
+            moneyPrices[i] = Money.parse(prices[i]);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal parseBigDecimal() {
+        BigDecimal last = null;
+        for (String price : prices) {
+            last = new BigDecimal(price);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public Money parseMoney() {
+        Money last = null;
+        for (String price : prices) {
+            last = Money.parse(price);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public BigDecimal totalBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            total = total.add(decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money totalMoney() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            total = total.plus(moneyPrices[i].times(quantities[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public String formatBigDecimal() {
+        String last = null;
+        for (BigDecimal price : decimalPrices) {
+            last = price.toString();
+        }
+        return last;
+    }
+
+    @Benchmark
+    public String formatMoney() {
+        String last = null;
+        for (Money price : moneyPrices) {
+            last = price.toString();
+        }
+        return last;
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.orderservice.model.Order;
+import com.ecommerce.orderservice.service.EmailService;
+import com.ecommerce.orderservice.service.OrderService;
+import com.ecommerce.orderservice.service.SmsService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rendering the order confirmation email and SMS from a consumed order event.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NotificationRenderingBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Order order;
+    private List<Map<String, Object>> items;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        order = BenchmarkFixtures.order(itemCount);
+        items = (List<Map<String, Object>>) OrderService.buildOrderEvent(order).get("items");
+    }
+
+    @Benchmark
+    public String renderEmail() {
+        return EmailService.renderOrderConfirmationHtml(
+                order.getId(), order.getTotalAmount(), order.getStatus().toString(), items);
+    }
+
+    @Benchmark
+    public String renderSms() {
+        return SmsService.renderOrderConfirmationSms(
+                order.getId(), order.getTotalAmount(), order.getStatus().toString());
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.orderservice.model.Order;
+import com.ecommerce.orderservice.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the RabbitMQ payload published for every new order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderEventBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkFixtures.order(itemCount);
+    }
+
+    @Benchmark
+    public Map<String, Object> buildOrderEvent() {
+        return OrderService.buildOrderEvent(order);
+    }
+}
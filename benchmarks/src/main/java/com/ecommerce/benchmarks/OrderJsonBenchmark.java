@@ -0,0 +1,64 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.orderservice.dto.OrderRequest;
+import com.ecommerce.orderservice.dto.OrderResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (de)serialisation of the order API payloads, configured like Spring Boot's
+ * default {@link ObjectMapper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderJsonBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private ObjectMapper objectMapper;
+    private OrderRequest request;
+    private OrderResponse response;
+    private byte[] requestJson;
+    private byte[] responseJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        request = BenchmarkFixtures.orderRequest(itemCount);
+        response = OrderResponse.fromEntity(BenchmarkFixtures.order(itemCount));
+        requestJson = objectMapper.writeValueAsBytes(request);
+        responseJson = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeOrderRequest() throws Exception {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public OrderRequest deserializeOrderRequest() throws Exception {
+        return objectMapper.readValue(requestJson, OrderRequest.class);
+    }
+
+    @Benchmark
+    public byte[] serializeOrderResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public OrderResponse deserializeOrderResponse() throws Exception {
+        return objectMapper.readValue(responseJson, OrderResponse.class);
+    }
+}
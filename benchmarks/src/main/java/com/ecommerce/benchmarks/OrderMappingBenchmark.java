@@ -0,0 +1,34 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.orderservice.dto.OrderResponse;
+import com.ecommerce.orderservice.model.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping an {@link Order} entity to its REST response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkFixtures.order(itemCount);
+    }
+
+    @Benchmark
+    public OrderResponse fromEntity() {
+        return OrderResponse.fromEntity(order);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.orderservice.model.Money;
+import com.ecommerce.orderservice.model.Order;
+import com.ecommerce.orderservice.model.OrderItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the subtotal and total calculations done while placing an order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderTotalsBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkFixtures.order(itemCount);
+    }
+
+    @Benchmark
+    public Money calculateSubtotals() {
+        Money last = null;
+        for (OrderItem item : order.getOrderItems()) {
+            item.calculateSubtotal();
+            last = item.getSubtotal();
+        }
+        return last;
+    }
+
+    @Benchmark
+    public Money calculateTotalAmount() {
+        order.calculateTotalAmount();
+        return order.getTotalAmount();
+    }
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.inventoryservice.dto.ProductResponse;
+import com.ecommerce.inventoryservice.model.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a {@link Product} entity to its REST response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProductMappingBenchmark {
+
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        product = BenchmarkFixtures.product();
+    }
+
+    @Benchmark
+    public ProductResponse fromEntity() {
+        return ProductResponse.fromEntity(product);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.inventoryservice.search.ProductSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of the in-memory product search index over a synthetic catalogue.
+ * Names draw from a 2,000-word vocabulary, so a single common word matches roughly
+ * 0.15% of the products.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProductSearchBenchmark {
+
+    private static final int VOCABULARY = 2_000;
+
+    @Param({"100000", "1000000"})
+    public int productCount;
+
+    private ProductSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new ProductSearchIndex();
+        Random random = new Random(42);
+        for (int i = 1; i <= productCount; i++) {
+            index.put((long) i, "SKU-" + i,
+                    word(random) + " " + word(random) + " " + word(random),
+                    description(random),
+                    i % 10 != 0);
+        }
+    }
+
+    private static String word(Random random) {
+        return "w" + Integer.toString(random.nextInt(VOCABULARY), 36) + "x";
+    }
+
+    private static String description(Random random) {
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            description.append(word(random)).append(' ');
+        }
+        return description.toString();
+    }
+
+    @Benchmark
+    public List<ProductSearchIndex.Hit> exactSku() {
+        return index.search("SKU-" + (productCount / 2 + 1), 20, true);
+    }
+
+    @Benchmark
+    public List<ProductSearchIndex.Hit> twoWords() {
+        return index.search("w1ax w2bx", 20, true);
+    }
+
+    @Benchmark
+    public List<ProductSearchIndex.Hit> wordAndPrefix() {
+        return index.search("w1ax w2", 20, true);
+    }
+
+    @Benchmark
+    public List<ProductSearchIndex.Hit> shortPrefix() {
+        return index.search("w1", 20, true);
+    }
+}
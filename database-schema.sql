@@ -27,46 +27,109 @@ CREATE INDEX IF NOT EXISTS idx_products_sku ON products(sku);
 -- Index for faster lookups by active status
 CREATE INDEX IF NOT EXISTS idx_products_active ON products(active);
 
+-- Composite indexes for the product listing (GET /api/inventory/products/listing).
+-- Each serves one sort order: equality on active, range/order on the sort column,
+-- id as tie-breaker so keyset pagination can seek straight to the next page.
+CREATE INDEX IF NOT EXISTS idx_products_active_price ON products(active, price, id);
+CREATE INDEX IF NOT EXISTS idx_products_active_name ON products(active, name, id);
+CREATE INDEX IF NOT EXISTS idx_products_active_updated_at ON products(active, updated_at, id);
+
 -- ========================================
 -- ORDER SERVICE DATABASE SCHEMA
 -- ========================================
 
+-- Orders and order items are range-partitioned by month on the order's creation
+-- time. The primary and foreign keys of a partitioned table must include the
+-- partition key, so order_items carries order_created_at. order-service creates
+-- the monthly partitions ahead of time (ORDERS_PARTITIONING_ENABLED=true); the
+-- default partitions only catch rows outside every monthly one.
+
 -- Orders Table
 -- Stores customer order information
 CREATE TABLE IF NOT EXISTS orders (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGSERIAL,
     customer_name VARCHAR(255) NOT NULL,
     customer_email VARCHAR(255) NOT NULL,
+    customer_phone VARCHAR(20),
     shipping_address VARCHAR(255) NOT NULL,
     status VARCHAR(50) NOT NULL CHECK (status IN ('PENDING','CONFIRMED','SHIPPED','DELIVERED','CANCELLED')),
     total_amount NUMERIC(10,2) NOT NULL DEFAULT 0 CHECK (total_amount >= 0),
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
-);
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE IF NOT EXISTS orders_default PARTITION OF orders DEFAULT;
 
 -- Order Items Table
--- Stores individual items within an order
+-- Stores individual items within an order, in the partition of their order
 CREATE TABLE IF NOT EXISTS order_items (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGSERIAL,
     order_id BIGINT NOT NULL,
+    order_created_at TIMESTAMP NOT NULL,
     product_id BIGINT NOT NULL,
     product_name VARCHAR(255) NOT NULL,
     quantity INTEGER NOT NULL CHECK (quantity > 0),
     price NUMERIC(10,2) NOT NULL CHECK (price >= 0),
     subtotal NUMERIC(10,2) NOT NULL CHECK (subtotal >= 0),
-    CONSTRAINT fk_order_items_order 
-        FOREIGN KEY (order_id) 
-        REFERENCES orders(id) 
+    PRIMARY KEY (id, order_created_at),
+    CONSTRAINT fk_order_items_order
+        FOREIGN KEY (order_id, order_created_at)
+        REFERENCES orders(id, created_at)
         ON DELETE CASCADE
-);
+) PARTITION BY RANGE (order_created_at);
+
+CREATE TABLE IF NOT EXISTS order_items_default PARTITION OF order_items DEFAULT;
+
+-- Monthly partitions, e.g. for October 2026 (order-service creates these itself):
+-- CREATE TABLE IF NOT EXISTS orders_2026_10 PARTITION OF orders
+--     FOR VALUES FROM ('2026-10-01') TO ('2026-11-01');
+-- CREATE TABLE IF NOT EXISTS order_items_2026_10 PARTITION OF order_items
+--     FOR VALUES FROM ('2026-10-01') TO ('2026-11-01');
 
--- Indexes for faster queries
+-- Indexes for faster queries (created on every partition)
+CREATE INDEX IF NOT EXISTS idx_orders_id ON orders(id);
 CREATE INDEX IF NOT EXISTS idx_orders_status ON orders(status);
 CREATE INDEX IF NOT EXISTS idx_orders_customer_email ON orders(customer_email);
+CREATE INDEX IF NOT EXISTS idx_orders_customer_email_lower ON orders(lower(customer_email));
 CREATE INDEX IF NOT EXISTS idx_orders_created_at ON orders(created_at);
 CREATE INDEX IF NOT EXISTS idx_order_items_order_id ON order_items(order_id);
 CREATE INDEX IF NOT EXISTS idx_order_items_product_id ON order_items(product_id);
 
+-- Converting existing, unpartitioned tables (run once, during a maintenance window):
+-- ALTER TABLE order_items RENAME TO order_items_unpartitioned;
+-- ALTER TABLE orders RENAME TO orders_unpartitioned;
+-- (create the partitioned tables and monthly partitions above, then)
+-- INSERT INTO orders SELECT id, customer_name, customer_email, customer_phone, shipping_address,
+--        status, total_amount, created_at, updated_at FROM orders_unpartitioned;
+-- INSERT INTO order_items SELECT i.id, i.order_id, o.created_at, i.product_id, i.product_name,
+--        i.quantity, i.price, i.subtotal
+--   FROM order_items_unpartitioned i JOIN orders_unpartitioned o ON o.id = i.order_id;
+-- SELECT setval(pg_get_serial_sequence('orders', 'id'), (SELECT MAX(id) FROM orders));
+-- SELECT setval(pg_get_serial_sequence('order_items', 'id'), (SELECT MAX(id) FROM order_items));
+-- DROP TABLE order_items_unpartitioned, orders_unpartitioned;
+
+-- Order Change Feed
+-- One row per order creation or status change; seq comes from order_change_sequence,
+-- incremented in the writing transaction so it grows in commit order
+CREATE TABLE IF NOT EXISTS order_changes (
+    seq BIGINT PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    customer_email VARCHAR(255) NOT NULL,
+    change_type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_changes_changed_at ON order_changes(changed_at);
+
+CREATE TABLE IF NOT EXISTS order_change_sequence (
+    id INTEGER PRIMARY KEY,
+    last_seq BIGINT NOT NULL
+);
+
+INSERT INTO order_change_sequence (id, last_seq) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
+
 -- ========================================
 -- SAMPLE DATA FOR TESTING
 -- ========================================
@@ -150,6 +213,36 @@ ANALYZE products;
 ANALYZE orders;
 ANALYZE order_items;
 
+-- Verifying the listing plans at 1M products:
+--
+-- INSERT INTO products (sku, name, description, price, stock_quantity, active)
+-- SELECT 'BULK-' || g, 'Product ' || md5(g::text), NULL,
+--        round((random() * 999 + 1)::numeric, 2), (random() * 50)::int, random() < 0.9
+-- FROM generate_series(1, 1000000) g;
+-- ANALYZE products;
+--
+-- First page, price range, sorted by price:
+-- EXPLAIN ANALYZE
+-- SELECT * FROM products
+-- WHERE active = true AND price >= 100 AND price <= 200 AND stock_quantity > 0
+-- ORDER BY price, id LIMIT 51;
+--   expected: Limit -> Index Scan using idx_products_active_price
+--             Index Cond: ((active = true) AND (price >= 100) AND (price <= 200))
+--             Filter: (stock_quantity > 0)
+--
+-- Next page (keyset after price 123.45, id 98765):
+-- EXPLAIN ANALYZE
+-- SELECT * FROM products
+-- WHERE active = true AND price <= 200 AND price >= 123.45 AND (price > 123.45 OR id > 98765)
+-- ORDER BY price, id LIMIT 51;
+--   expected: Index Scan using idx_products_active_price, Index Cond on price >= 123.45,
+--             no Sort node, no Seq Scan; rows read stay close to the page size.
+--
+-- Sorted by name / updated_at, descending:
+-- EXPLAIN ANALYZE
+-- SELECT * FROM products WHERE active = true ORDER BY updated_at DESC, id DESC LIMIT 51;
+--   expected: Index Scan Backward using idx_products_active_updated_at
+
 -- ========================================
 -- CLEANUP QUERIES (USE WITH CAUTION)
 -- ========================================
@@ -0,0 +1,2 @@
+-- Second database on the local primary; order_db is created by the image
+CREATE DATABASE inventory_db;
@@ -0,0 +1,96 @@
+package com.ecommerce.inventoryservice.cache;
+
+import com.ecommerce.inventoryservice.model.Product;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.Cache;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.SpecHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the second-level cache right for products written with plain JDBC (stock syncs
+ * and imports), which Hibernate does not see.
+ *
+ * The written products are evicted at once, so the rest of the transaction and other
+ * readers go to the database. After commit they are read back into the cache: an entry
+ * holding the new {@code @Version} keeps a reader that loaded the old row before the
+ * commit from putting it back.
+ */
+@Component
+public class ProductCacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductCacheInvalidator.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate refreshTransaction;
+
+    @PostConstruct
+    void init() {
+        // A read-write transaction reads from the primary, which has the commit
+        refreshTransaction = new TransactionTemplate(transactionManager);
+        refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Call in the transaction that wrote the products.
+     */
+    public void productsWritten(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        evict(productIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(productIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh(ids);
+            }
+        });
+    }
+
+    private void refresh(List<Long> productIds) {
+        try {
+            refreshTransaction.executeWithoutResult(status -> entityManager
+                    .createQuery("SELECT p FROM Product p WHERE p.id IN :ids", Product.class)
+                    .setParameter("ids", productIds)
+                    .setHint(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.REFRESH)
+                    .getResultList());
+        } catch (RuntimeException e) {
+            logger.warn("Could not reload {} written products into the cache, evicting them: {}",
+                    productIds.size(), e.getMessage());
+            evict(productIds);
+        }
+    }
+
+    private void evict(Collection<Long> productIds) {
+        Cache cache = entityManagerFactory.getCache();
+        for (Long productId : productIds) {
+            cache.evict(Product.class, productId);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.ecommerce.inventoryservice.catalog;
+
+import com.ecommerce.inventoryservice.dto.CatalogVersion;
+import com.ecommerce.inventoryservice.dto.ProductResponse;
+import com.ecommerce.inventoryservice.event.ProductChangedEvent;
+import com.ecommerce.inventoryservice.event.StockLevelsChangedEvent;
+import com.ecommerce.inventoryservice.model.Product;
+import com.ecommerce.inventoryservice.repository.ProductRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps an {@link ActiveCatalogSnapshot}: built when the application is ready, then
+ * rebuilt on a background thread after committed product or stock changes. Changes that
+ * arrive within the rebuild delay of each other, such as the chunks of an import or a
+ * stock sync, are folded into one rebuild.
+ *
+ * A rebuild re-reads the whole active catalog from the primary, so rebuilds start at
+ * most once per minimum rebuild interval. Under steady order traffic, where every stock
+ * change of an active product asks for one, the catalog is rebuilt at that rate and its
+ * stock figures trail the database by up to the interval.
+ *
+ * Readers always get a complete snapshot and never wait for a rebuild; until it
+ * finishes they get the previous one, so a change shows up in the active catalog a
+ * little after it is committed.
+ */
+@Service
+public class ActiveCatalogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActiveCatalogService.class);
+
+    private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "active-catalog-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder failedRebuilds = new LongAdder();
+
+    private volatile ActiveCatalogSnapshot snapshot;
+    private volatile long lastBuildMillis;
+    private volatile long lastBuildStarted;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${catalog.snapshot.build-batch-size:5000}")
+    private int buildBatchSize;
+
+    @Value("${catalog.snapshot.rebuild-delay:200ms}")
+    private Duration rebuildDelay;
+
+    @Value("${catalog.snapshot.retry-delay:5s}")
+    private Duration retryDelay;
+
+    @Value("${catalog.snapshot.min-rebuild-interval:5s}")
+    private Duration minRebuildInterval;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSnapshot() {
+        current();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getChangeType() == ProductChangedEvent.ChangeType.STOCK_CHANGED
+                && !Boolean.TRUE.equals(event.getProduct().getActive())) {
+            // Stock of a product that is not listed
+            return;
+        }
+        scheduleRebuild(rebuildDelay);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockLevelsChanged(StockLevelsChangedEvent event) {
+        scheduleRebuild(rebuildDelay);
+    }
+
+    /**
+     * @return the latest snapshot; built on the calling thread if there is none yet
+     */
+    public ActiveCatalogSnapshot current() {
+        ActiveCatalogSnapshot current = snapshot;
+        return current != null ? current : buildIfMissing();
+    }
+
+    private synchronized ActiveCatalogSnapshot buildIfMissing() {
+        return snapshot != null ? snapshot : build();
+    }
+
+    private void scheduleRebuild(Duration delay) {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            long delayNanos = delay.toNanos();
+            if (snapshot != null) {
+                long sinceLastBuild = System.nanoTime() - lastBuildStarted;
+                delayNanos = Math.max(delayNanos, minRebuildInterval.toNanos() - sinceLastBuild);
+            }
+            rebuilder.schedule(this::rebuild, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void rebuild() {
+        // Changes committed from here on schedule another rebuild
+        rebuildScheduled.set(false);
+        try {
+            build();
+        } catch (RuntimeException e) {
+            failedRebuilds.increment();
+            logger.error("Active catalog rebuild failed, serving the previous snapshot", e);
+            scheduleRebuild(retryDelay);
+        }
+    }
+
+    private synchronized ActiveCatalogSnapshot build() {
+        long started = System.nanoTime();
+        lastBuildStarted = started;
+        ActiveCatalogSnapshot previous = snapshot;
+        ByteArrayOutputStream json = new ByteArrayOutputStream(previous != null ? previous.getJson().length + 4096 : 65536);
+
+        int count = 0;
+        long versionSum = 0;
+        LocalDateTime lastUpdatedAt = null;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(json)) {
+            generator.writeStartArray();
+            long lastId = 0;
+            List<Product> batch;
+            do {
+                long afterId = lastId;
+                // Read-write transactions go to the primary, which already has the change
+                // that triggered the rebuild; a replica may not
+                batch = transactionTemplate.execute(status ->
+                        productRepository.findActiveAfter(afterId, PageRequest.ofSize(buildBatchSize)));
+                for (Product product : batch) {
+                    objectMapper.writeValue(generator, ProductResponse.fromEntity(product));
+                    count++;
+                    versionSum += product.getVersion();
+                    if (lastUpdatedAt == null || product.getUpdatedAt().isAfter(lastUpdatedAt)) {
+                        lastUpdatedAt = product.getUpdatedAt();
+                    }
+                    lastId = product.getId();
+                }
+            } while (batch.size() == buildBatchSize);
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode the active catalog", e);
+        }
+
+        byte[] jsonBytes = json.toByteArray();
+        String eTag = new CatalogVersion((long) count, lastUpdatedAt, versionSum).toETag();
+        ActiveCatalogSnapshot built = new ActiveCatalogSnapshot(jsonBytes, gzip(jsonBytes), eTag, count, Instant.now());
+        snapshot = built;
+        rebuilds.increment();
+        lastBuildMillis = (System.nanoTime() - started) / 1_000_000;
+        logger.info("Active catalog snapshot built: {} products, {} bytes ({} gzipped) in {} ms",
+                count, jsonBytes.length, built.getGzip().length, lastBuildMillis);
+        return built;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(512, bytes.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed, 8192)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    public Map<String, Object> stats() {
+        ActiveCatalogSnapshot current = snapshot;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", current != null);
+        if (current != null) {
+            stats.put("products", current.getProducts());
+            stats.put("jsonBytes", current.getJson().length);
+            stats.put("gzipBytes", current.getGzip().length);
+            stats.put("eTag", current.getETag());
+            stats.put("builtAt", current.getBuiltAt().toString());
+        }
+        stats.put("lastBuildMillis", lastBuildMillis);
+        stats.put("rebuildPending", rebuildScheduled.get());
+        stats.put("rebuilds", rebuilds.sum());
+        stats.put("failedRebuilds", failedRebuilds.sum());
+        return stats;
+    }
+}
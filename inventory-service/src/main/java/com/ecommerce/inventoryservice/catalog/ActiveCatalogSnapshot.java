@@ -0,0 +1,58 @@
+package com.ecommerce.inventoryservice.catalog;
+
+import java.time.Instant;
+
+/**
+ * The active catalog as it is sent by {@code GET /api/inventory/products/active}: the
+ * JSON array of products, already encoded, and the same bytes gzipped, with the entity
+ * tag of each. Never modified once built; a product change produces a new snapshot.
+ *
+ * The byte arrays are handed out as they are, so callers must not modify them.
+ */
+public final class ActiveCatalogSnapshot {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String eTag;
+    private final int products;
+    private final Instant builtAt;
+
+    ActiveCatalogSnapshot(byte[] json, byte[] gzip, String eTag, int products, Instant builtAt) {
+        this.json = json;
+        this.gzip = gzip;
+        this.eTag = eTag;
+        this.products = products;
+        this.builtAt = builtAt;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    /**
+     * Strong entity tag of the JSON; the same as computed from the database for the
+     * active catalog, so tags handed out before the snapshot existed stay valid.
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Strong entity tag of the gzipped JSON, which is a different representation.
+     */
+    public String getGzipETag() {
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
+
+    public int getProducts() {
+        return products;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+}
@@ -0,0 +1,141 @@
+package com.ecommerce.inventoryservice.catalog;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one catalog import, readable while it runs. Rejected rows are written to
+ * an NDJSON error file, one line per row with its number, SKU and error messages.
+ */
+public class ProductImportJob {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final ProductImportMode mode;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startedNanos = System.nanoTime();
+    private final Path errorFile;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile long finishedNanos;
+    private volatile String failure;
+
+    private BufferedWriter errorWriter;
+
+    public ProductImportJob(String id, ProductImportMode mode, Path errorFile) {
+        this.id = id;
+        this.mode = mode;
+        this.errorFile = errorFile;
+    }
+
+    void rowsRead(int count) {
+        rowsRead.addAndGet(count);
+    }
+
+    void inserted(int count) {
+        inserted.addAndGet(count);
+    }
+
+    void updated(int count) {
+        updated.addAndGet(count);
+    }
+
+    /**
+     * Records a rejected row, already formatted as one NDJSON line, in the error file.
+     */
+    synchronized void reject(String errorLine) {
+        rejected.incrementAndGet();
+        try {
+            if (errorWriter == null) {
+                Files.createDirectories(errorFile.getParent());
+                errorWriter = Files.newBufferedWriter(errorFile, StandardCharsets.UTF_8);
+            }
+            errorWriter.write(errorLine);
+            errorWriter.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write import error file " + errorFile, e);
+        }
+    }
+
+    synchronized void finish(Status finalStatus, String failureMessage) {
+        failure = failureMessage;
+        finishedAt = LocalDateTime.now();
+        finishedNanos = System.nanoTime();
+        status = finalStatus;
+        if (errorWriter != null) {
+            try {
+                errorWriter.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not close import error file " + errorFile, e);
+            }
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ProductImportMode getMode() {
+        return mode;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    public long getInserted() {
+        return inserted.get();
+    }
+
+    public long getUpdated() {
+        return updated.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public long getRowsPerSecond() {
+        long end = status == Status.RUNNING ? System.nanoTime() : finishedNanos;
+        long elapsedNanos = Math.max(1, end - startedNanos);
+        return rowsRead.get() * 1_000_000_000L / elapsedNanos;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    @JsonIgnore
+    public Path getErrorFile() {
+        return errorFile;
+    }
+}
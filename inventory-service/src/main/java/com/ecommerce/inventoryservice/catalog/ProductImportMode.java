@@ -0,0 +1,25 @@
+package com.ecommerce.inventoryservice.catalog;
+
+import com.ecommerce.inventoryservice.exception.InvalidImportRequestException;
+
+import java.util.Locale;
+
+/**
+ * What an import does with rows whose SKU already exists.
+ */
+public enum ProductImportMode {
+
+    /** Reject the row. */
+    INSERT,
+
+    /** Overwrite the existing product with the row. */
+    UPSERT;
+
+    public static ProductImportMode fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidImportRequestException("Unknown import mode '" + value + "'; use insert or upsert");
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.ecommerce.inventoryservice.catalog;
+
+import com.ecommerce.inventoryservice.cache.ProductCacheInvalidator;
+import com.ecommerce.inventoryservice.dto.ProductRequest;
+import com.ecommerce.inventoryservice.dto.ProductResponse;
+import com.ecommerce.inventoryservice.event.ProductChangedEvent;
+import com.ecommerce.inventoryservice.exception.ImportJobNotFoundException;
+import com.ecommerce.inventoryservice.exception.InvalidImportRequestException;
+import com.ecommerce.inventoryservice.model.Product;
+import com.ecommerce.inventoryservice.repository.ProductRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Streams a CSV or NDJSON catalog into the products table in chunks.
+ *
+ * Each chunk is validated against the {@link ProductRequest} constraints, checked for
+ * existing SKUs with one query, loaded with set-based SQL and committed on its own, so
+ * a failed chunk leaves earlier chunks in place. Rejected rows go to the job's error
+ * file; the search index and stock snapshot hear about loaded products through the
+ * usual {@link ProductChangedEvent}s.
+ */
+@Service
+public class ProductImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductImportService.class);
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final Map<String, ProductImportJob> jobs = new LinkedHashMap<>();
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductImportWriter productImportWriter;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProductCacheInvalidator productCacheInvalidator;
+
+    @Value("${products.import.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${products.import.directory}")
+    private Path directory;
+
+    @Value("${products.import.retained-jobs:20}")
+    private int retainedJobs;
+
+    public ProductImportJob importProducts(InputStream body, MediaType contentType, ProductImportMode mode) {
+        ProductRowReader rows = open(body, contentType);
+        String id = UUID.randomUUID().toString();
+        ProductImportJob job = new ProductImportJob(id, mode, directory.resolve(id + "-errors.ndjson"));
+        register(job);
+        logger.info("Product import {} started ({}, {})", id, contentType, mode);
+
+        try {
+            List<ProductRowReader.Row> chunk = new ArrayList<>(chunkSize);
+            ProductRowReader.Row row;
+            while ((row = rows.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    loadChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                loadChunk(job, chunk);
+            }
+            job.finish(ProductImportJob.Status.COMPLETED, null);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Product import {} failed after {} rows", id, job.getRowsRead(), e);
+            job.finish(ProductImportJob.Status.FAILED, e.getMessage());
+        }
+
+        logger.info("Product import {} {}: {} rows, {} inserted, {} updated, {} rejected, {} rows/s",
+                id, job.getStatus(), job.getRowsRead(), job.getInserted(), job.getUpdated(),
+                job.getRejected(), job.getRowsPerSecond());
+        return job;
+    }
+
+    public List<ProductImportJob> getJobs() {
+        synchronized (jobs) {
+            List<ProductImportJob> recentFirst = new ArrayList<>(jobs.values());
+            Collections.reverse(recentFirst);
+            return recentFirst;
+        }
+    }
+
+    public ProductImportJob getJob(String id) {
+        synchronized (jobs) {
+            ProductImportJob job = jobs.get(id);
+            if (job == null) {
+                throw new ImportJobNotFoundException("Import not found with ID: " + id);
+            }
+            return job;
+        }
+    }
+
+    private ProductRowReader open(InputStream body, MediaType contentType) {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset), 1 << 16);
+        try {
+            if (TEXT_CSV.isCompatibleWith(contentType)) {
+                return ProductRowReader.csv(reader);
+            }
+            if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+                return ProductRowReader.ndjson(reader, objectMapper);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read import header", e);
+        }
+        throw new InvalidImportRequestException("Unsupported import format " + contentType
+                + "; send text/csv or application/x-ndjson");
+    }
+
+    private void register(ProductImportJob job) {
+        List<ProductImportJob> evicted = new ArrayList<>();
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            var iterator = jobs.values().iterator();
+            while (jobs.size() > retainedJobs && iterator.hasNext()) {
+                ProductImportJob oldest = iterator.next();
+                if (oldest.getStatus() != ProductImportJob.Status.RUNNING) {
+                    iterator.remove();
+                    evicted.add(oldest);
+                }
+            }
+        }
+        // Nothing refers to an evicted job's error file any more
+        for (ProductImportJob old : evicted) {
+            try {
+                Files.deleteIfExists(old.getErrorFile());
+            } catch (IOException e) {
+                logger.warn("Could not delete error file of product import {}: {}", old.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void loadChunk(ProductImportJob job, List<ProductRowReader.Row> chunk) {
+        job.rowsRead(chunk.size());
+
+        List<ProductRowReader.Row> valid = new ArrayList<>(chunk.size());
+        Set<String> skus = new HashSet<>();
+        for (ProductRowReader.Row row : chunk) {
+            if (row.parseError() != null) {
+                reject(job, row, List.of(row.parseError()));
+                continue;
+            }
+            Set<ConstraintViolation<ProductRequest>> violations = validator.validate(row.request());
+            if (!violations.isEmpty()) {
+                reject(job, row, violations.stream().map(ConstraintViolation::getMessage).sorted().toList());
+            } else if (!skus.add(row.request().getSku())) {
+                reject(job, row, List.of("SKU " + row.request().getSku() + " appears more than once in this chunk"));
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        ChunkResult result;
+        try {
+            result = transactionTemplate.execute(status -> writeChunk(job.getMode(), valid, skus));
+        } catch (DataAccessException e) {
+            // e.g. a SKU created concurrently; the whole chunk was rolled back
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            for (ProductRowReader.Row row : valid) {
+                reject(job, row, List.of("Chunk rolled back: " + cause));
+            }
+            return;
+        }
+        for (ProductRowReader.Row row : result.existing()) {
+            reject(job, row, List.of("Product with SKU " + row.request().getSku() + " already exists"));
+        }
+        job.inserted(result.inserted());
+        job.updated(result.updated());
+    }
+
+    private ChunkResult writeChunk(ProductImportMode mode, List<ProductRowReader.Row> valid, Set<String> skus) {
+        Set<String> existingSkus = productRepository.findExistingSkus(skus);
+
+        List<ProductRequest> inserts = new ArrayList<>(valid.size());
+        List<ProductRequest> updates = new ArrayList<>();
+        List<ProductRowReader.Row> existing = new ArrayList<>();
+        for (ProductRowReader.Row row : valid) {
+            if (!existingSkus.contains(row.request().getSku())) {
+                inserts.add(row.request());
+            } else if (mode == ProductImportMode.UPSERT) {
+                updates.add(row.request());
+            } else {
+                existing.add(row);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        productImportWriter.insert(inserts, now);
+        productImportWriter.update(updates, now);
+        publishChanges(inserts, updates, existingSkus);
+        return new ChunkResult(inserts.size(), updates.size(), existing);
+    }
+
+    /**
+     * Loads the written products back, with their ids and versions, for the listeners
+     * that keep in-memory views of the catalog.
+     */
+    private void publishChanges(List<ProductRequest> inserts, List<ProductRequest> updates, Set<String> existingSkus) {
+        if (inserts.isEmpty() && updates.isEmpty()) {
+            return;
+        }
+        Set<String> written = new HashSet<>(inserts.size() + updates.size());
+        inserts.forEach(product -> written.add(product.getSku()));
+        updates.forEach(product -> written.add(product.getSku()));
+        List<Product> products = productRepository.findBySkuIn(written);
+        productCacheInvalidator.productsWritten(products.stream().map(Product::getId).toList());
+        for (Product product : products) {
+            ProductResponse response = ProductResponse.fromEntity(product);
+            eventPublisher.publishEvent(existingSkus.contains(product.getSku())
+                    ? ProductChangedEvent.updated(response)
+                    : ProductChangedEvent.created(response));
+        }
+    }
+
+    private void reject(ProductImportJob job, ProductRowReader.Row row, List<String> errors) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("row", row.number());
+        line.put("sku", row.request() != null ? row.request().getSku() : null);
+        line.put("errors", errors);
+        try {
+            job.reject(objectMapper.writeValueAsString(line));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not format import error line", e);
+        }
+    }
+
+    private record ChunkResult(int inserted, int updated, List<ProductRowReader.Row> existing) {
+    }
+}
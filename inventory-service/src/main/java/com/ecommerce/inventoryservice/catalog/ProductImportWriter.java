@@ -0,0 +1,129 @@
+package com.ecommerce.inventoryservice.catalog;
+
+import com.ecommerce.inventoryservice.dto.ProductRequest;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based writes of imported products. Runs on the connection of the surrounding
+ * transaction, so a chunk is loaded and committed as a unit.
+ */
+@Component
+public class ProductImportWriter {
+
+    private static final String COPY_SQL = "COPY products (sku, name, description, price, stock_quantity, active, "
+            + "created_at, updated_at, version) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String INSERT_SQL = "INSERT INTO products (sku, name, description, price, stock_quantity, "
+            + "active, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String UPDATE_SQL = "UPDATE products SET name = ?, description = ?, price = ?, "
+            + "stock_quantity = ?, active = ?, updated_at = ?, version = version + 1 WHERE sku = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts new products with {@code COPY} on PostgreSQL and batched inserts elsewhere.
+     */
+    public void insert(List<ProductRequest> products, LocalDateTime now) {
+        if (products.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                copy(connection.unwrap(PGConnection.class), products, now);
+            } else {
+                batchInsert(products, now);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Overwrites existing products, matched by SKU.
+     */
+    public void update(List<ProductRequest> products, LocalDateTime now) {
+        if (products.isEmpty()) {
+            return;
+        }
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(UPDATE_SQL, products, products.size(), (statement, product) -> {
+            statement.setString(1, product.getName());
+            statement.setString(2, product.getDescription());
+            statement.setBigDecimal(3, product.getPrice());
+            statement.setInt(4, product.getStockQuantity());
+            statement.setBoolean(5, isActive(product));
+            statement.setTimestamp(6, updatedAt);
+            statement.setString(7, product.getSku());
+        });
+    }
+
+    private void copy(PGConnection connection, List<ProductRequest> products, LocalDateTime now)
+            throws SQLException {
+        String timestamp = now.toString();
+        StringBuilder csv = new StringBuilder(products.size() * 128);
+        for (ProductRequest product : products) {
+            appendField(csv, product.getSku()).append(',');
+            appendField(csv, product.getName()).append(',');
+            appendField(csv, product.getDescription()).append(',');
+            csv.append(product.getPrice().toPlainString()).append(',');
+            csv.append(product.getStockQuantity()).append(',');
+            csv.append(isActive(product)).append(',');
+            csv.append(timestamp).append(',');
+            csv.append(timestamp).append(",0\n");
+        }
+        try {
+            connection.getCopyAPI().copyIn(COPY_SQL, new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("COPY into products failed", e);
+        }
+    }
+
+    private void batchInsert(List<ProductRequest> products, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_SQL, products, products.size(), (statement, product) -> {
+            statement.setString(1, product.getSku());
+            statement.setString(2, product.getName());
+            statement.setString(3, product.getDescription());
+            statement.setBigDecimal(4, product.getPrice());
+            statement.setInt(5, product.getStockQuantity());
+            statement.setBoolean(6, isActive(product));
+            statement.setTimestamp(7, timestamp);
+            statement.setTimestamp(8, timestamp);
+        });
+    }
+
+    /**
+     * CSV field for COPY: unquoted empty is NULL, everything else is quoted.
+     */
+    private static StringBuilder appendField(StringBuilder csv, String value) {
+        if (value == null) {
+            return csv;
+        }
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+
+    private static boolean isActive(ProductRequest product) {
+        return product.getActive() == null || product.getActive();
+    }
+}
@@ -0,0 +1,190 @@
+package com.ecommerce.inventoryservice.catalog;
+
+import com.ecommerce.inventoryservice.dto.ProductRequest;
+import com.ecommerce.inventoryservice.exception.InvalidImportRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads import rows one at a time from a CSV or NDJSON stream, so an import never holds
+ * more than one chunk of rows in memory.
+ *
+ * CSV needs a header row naming the {@link ProductRequest} fields (camelCase or
+ * snake_case, any order); quoted fields may contain commas, quotes and line breaks.
+ * NDJSON has one {@code ProductRequest} object per line.
+ */
+public abstract class ProductRowReader {
+
+    /**
+     * One input row: the parsed request, or why it could not be parsed.
+     */
+    public record Row(long number, ProductRequest request, String parseError) {
+    }
+
+    protected final BufferedReader reader;
+    protected long rowNumber;
+
+    protected ProductRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    public static ProductRowReader csv(BufferedReader reader) throws IOException {
+        return new Csv(reader);
+    }
+
+    public static ProductRowReader ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        return new Ndjson(reader, objectMapper);
+    }
+
+    /**
+     * @return the next row, or {@code null} at the end of the input
+     */
+    public abstract Row next() throws IOException;
+
+    private static final class Ndjson extends ProductRowReader {
+
+        private final ObjectMapper objectMapper;
+
+        Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                rowNumber++;
+            } while (line.isBlank());
+            try {
+                return new Row(rowNumber, objectMapper.readValue(line, ProductRequest.class), null);
+            } catch (JsonProcessingException e) {
+                return new Row(rowNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private static final class Csv extends ProductRowReader {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+        private final StringBuilder field = new StringBuilder();
+
+        Csv(BufferedReader reader) throws IOException {
+            super(reader);
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new InvalidImportRequestException("CSV input is empty; a header row is required");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(normalize(header.get(i)), i);
+            }
+            for (String required : List.of("sku", "name", "price", "stockquantity")) {
+                if (!columns.containsKey(required)) {
+                    throw new InvalidImportRequestException("CSV header has no '" + required + "' column");
+                }
+            }
+        }
+
+        @Override
+        public Row next() throws IOException {
+            List<String> record;
+            do {
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+                rowNumber++;
+            } while (record.size() == 1 && record.get(0).isEmpty());
+
+            ProductRequest request = new ProductRequest();
+            request.setSku(value(record, "sku"));
+            request.setName(value(record, "name"));
+            request.setDescription(value(record, "description"));
+            String price = value(record, "price");
+            String stockQuantity = value(record, "stockquantity");
+            String active = value(record, "active");
+            try {
+                request.setPrice(price == null ? null : new BigDecimal(price));
+            } catch (NumberFormatException e) {
+                return new Row(rowNumber, null, "Invalid price '" + price + "'");
+            }
+            try {
+                request.setStockQuantity(stockQuantity == null ? null : Integer.valueOf(stockQuantity));
+            } catch (NumberFormatException e) {
+                return new Row(rowNumber, null, "Invalid stock quantity '" + stockQuantity + "'");
+            }
+            request.setActive(active == null || Boolean.parseBoolean(active));
+            return new Row(rowNumber, request, null);
+        }
+
+        private String value(List<String> record, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        /**
+         * @return the fields of the next record, or {@code null} at the end of the input
+         */
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> record = new ArrayList<>();
+            boolean quoted = false;
+            field.setLength(0);
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new InvalidImportRequestException("Unterminated quoted field in CSV row " + (rowNumber + 1));
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    record.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            record.add(field.toString());
+            return record;
+        }
+
+        private static String normalize(String header) {
+            return header.replace("\uFEFF", "").trim().replace("_", "").toLowerCase(Locale.ROOT);
+        }
+    }
+}
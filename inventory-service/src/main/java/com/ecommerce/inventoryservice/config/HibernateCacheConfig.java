@@ -0,0 +1,61 @@
+package com.ecommerce.inventoryservice.config;
+
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Regions of the Hibernate second-level cache: products by id, and product ids by SKU.
+ * Both live on this instance's heap, bounded in entries and time to live; the time to
+ * live bounds how long a write made by another instance can go unseen here.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String PRODUCT_REGION = "products";
+    public static final String PRODUCT_SKU_REGION = "products-by-sku";
+
+    @Value("${inventory.cache.products.max-entries:50000}")
+    private long maxEntries;
+
+    @Value("${inventory.cache.products.time-to-live:10m}")
+    private Duration timeToLive;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider)
+                Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        org.ehcache.config.Configuration configuration = ConfigurationBuilder.newConfigurationBuilder().build();
+        CacheManager cacheManager = provider.getCacheManager(URI.create("urn:inventory:hibernate-cache"),
+                configuration);
+        cacheManager.createCache(PRODUCT_REGION, Eh107Configuration.fromEhcacheCacheConfiguration(region()));
+        cacheManager.createCache(PRODUCT_SKU_REGION, Eh107Configuration.fromEhcacheCacheConfiguration(region()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private CacheConfiguration<Object, Object> region() {
+        return CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive))
+                .build();
+    }
+}
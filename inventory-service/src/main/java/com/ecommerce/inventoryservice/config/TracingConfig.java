@@ -0,0 +1,47 @@
+package com.ecommerce.inventoryservice.config;
+
+import com.ecommerce.common.tracing.RepositoryObservationAspect;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tracing with Micrometer Tracing over OpenTelemetry. HTTP server requests are traced by
+ * Spring Boot, continuing the trace of order-service calls; this adds repository calls,
+ * the {@code @RabbitListener} consumers and a span exporter that needs no collector.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * A span per repository call; off with {@code tracing.repositories.enabled=false}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.repositories.enabled", havingValue = "true", matchIfMissing = true)
+    public RepositoryObservationAspect repositoryObservationAspect(ObservationRegistry observationRegistry) {
+        return new RepositoryObservationAspect(observationRegistry);
+    }
+
+    /**
+     * Continues the trace carried in the headers of consumed messages.
+     */
+    @Bean
+    public ContainerCustomizer<SimpleMessageListenerContainer> observedListenerContainers() {
+        return container -> container.setObservationEnabled(true);
+    }
+
+    /**
+     * Finished spans as OTLP JSON, one batch per line, to the traces file configured in
+     * logback-spring.xml. Works offline; the file can be replayed into any OTLP backend.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.export.file.enabled", havingValue = "true", matchIfMissing = true)
+    public SpanExporter fileSpanExporter() {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+}
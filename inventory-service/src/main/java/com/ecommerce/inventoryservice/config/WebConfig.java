@@ -0,0 +1,25 @@
+package com.ecommerce.inventoryservice.config;
+
+import com.ecommerce.common.deadline.DeadlineInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Value("${inventory.deadline.max:30s}")
+    private Duration maxDeadline;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Only callers that send their remaining budget get a deadline. The reactive API
+        // does not run on the request thread.
+        registry.addInterceptor(new DeadlineInterceptor(null, maxDeadline))
+                .addPathPatterns("/api/inventory/**")
+                .excludePathPatterns("/api/inventory/reactive/**");
+    }
+}
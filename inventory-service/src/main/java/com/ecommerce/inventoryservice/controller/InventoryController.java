@@ -1,20 +1,40 @@
 package com.ecommerce.inventoryservice.controller;
 
+import com.ecommerce.common.web.ConditionalRequests;
+import com.ecommerce.inventoryservice.catalog.ActiveCatalogService;
+import com.ecommerce.inventoryservice.catalog.ActiveCatalogSnapshot;
+import com.ecommerce.inventoryservice.dto.CatalogVersion;
+import com.ecommerce.inventoryservice.dto.ProductListingCriteria;
+import com.ecommerce.inventoryservice.dto.ProductPage;
 import com.ecommerce.inventoryservice.dto.ProductRequest;
 import com.ecommerce.inventoryservice.dto.ProductResponse;
 import com.ecommerce.inventoryservice.dto.ReserveStockRequest;
+import com.ecommerce.inventoryservice.dto.StockCheckRequest;
+import com.ecommerce.inventoryservice.dto.StockCheckResponse;
+import com.ecommerce.inventoryservice.dto.StockSyncRequest;
+import com.ecommerce.inventoryservice.dto.StockSyncResponse;
 import com.ecommerce.inventoryservice.dto.StockUpdateRequest;
+import com.ecommerce.inventoryservice.search.ProductSearchService;
 import com.ecommerce.inventoryservice.service.InventoryService;
+import com.ecommerce.inventoryservice.stock.StockSyncService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +49,15 @@ public class InventoryController {
     @Autowired
     private InventoryService inventoryService;
 
+    @Autowired
+    private ProductSearchService productSearchService;
+
+    @Autowired
+    private StockSyncService stockSyncService;
+
+    @Autowired
+    private ActiveCatalogService activeCatalogService;
+
     @PostMapping("/products")
     @Operation(summary = "Create a new product", description = "Add a new product to the inventory")
     public ResponseEntity<ProductResponse> createProduct(@Valid @RequestBody ProductRequest request) {
@@ -39,25 +68,93 @@ public class InventoryController {
 
     @GetMapping("/products/{id}")
     @Operation(summary = "Get product by ID", description = "Retrieve product details by product ID")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id) {
+    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id, WebRequest webRequest) {
         logger.info("REST request to get product: {}", id);
+        // Only conditional requests pay for the version probe; otherwise the ETag comes from the body
+        if (ConditionalRequests.isConditional(webRequest)) {
+            String eTag = inventoryService.getProductETag(id);
+            if (ConditionalRequests.matchesIfNoneMatch(webRequest, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
         ProductResponse response = inventoryService.getProductById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(response.getETag()).body(response);
     }
 
     @GetMapping("/products")
     @Operation(summary = "Get all products", description = "Retrieve all products in the inventory")
-    public ResponseEntity<List<ProductResponse>> getAllProducts() {
+    public ResponseEntity<List<ProductResponse>> getAllProducts(WebRequest webRequest) {
         logger.info("REST request to get all products");
+        if (ConditionalRequests.isConditional(webRequest)) {
+            String eTag = inventoryService.getAllProductsETag();
+            if (ConditionalRequests.matchesIfNoneMatch(webRequest, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
         List<ProductResponse> response = inventoryService.getAllProducts();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(CatalogVersion.of(response).toETag()).body(response);
     }
 
-    @GetMapping("/products/active")
-    @Operation(summary = "Get active products", description = "Retrieve all active products")
-    public ResponseEntity<List<ProductResponse>> getActiveProducts() {
+    @GetMapping(value = "/products/active", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get active products", description = "Retrieve all active products",
+            responses = @ApiResponse(responseCode = "200", content = @Content(
+                    array = @ArraySchema(schema = @Schema(implementation = ProductResponse.class)))))
+    public ResponseEntity<byte[]> getActiveProducts(WebRequest webRequest) {
         logger.info("REST request to get active products");
-        List<ProductResponse> response = inventoryService.getActiveProducts();
+        ActiveCatalogSnapshot snapshot = activeCatalogService.current();
+        boolean gzip = acceptsGzip(webRequest);
+        String eTag = gzip ? snapshot.getGzipETag() : snapshot.getETag();
+        if (ConditionalRequests.matchesIfNoneMatch(webRequest, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        byte[] body = gzip ? snapshot.getGzip() : snapshot.getJson();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/products/listing")
+    @Operation(summary = "List products", description = "Filtered, sorted product listing with cursor pagination")
+    public ResponseEntity<ProductPage> getProductListing(
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "false") Boolean inStockOnly,
+            @RequestParam(defaultValue = "true") Boolean active,
+            @RequestParam(defaultValue = "price") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "50") Integer limit,
+            @RequestParam(required = false) String cursor) {
+        logger.info("REST request to list products sorted by {} {}", sort, direction);
+        ProductListingCriteria criteria = new ProductListingCriteria();
+        criteria.setMinPrice(minPrice);
+        criteria.setMaxPrice(maxPrice);
+        criteria.setInStockOnly(inStockOnly);
+        criteria.setActive(active);
+        criteria.setSortField(ProductListingCriteria.SortField.fromParameter(sort));
+        criteria.setDescending("desc".equalsIgnoreCase(direction));
+        criteria.setLimit(limit);
+        criteria.applyCursor(cursor);
+        ProductPage response = inventoryService.getProductListing(criteria);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/products/search")
+    @Operation(summary = "Search products", description = "Search products by name, SKU and description")
+    public ResponseEntity<List<ProductResponse>> searchProducts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") Integer limit,
+            @RequestParam(defaultValue = "true") Boolean activeOnly) {
+        logger.info("REST request to search products: {}", q);
+        List<ProductResponse> response = productSearchService.search(q, Math.min(Math.max(limit, 1), 100), activeOnly);
         return ResponseEntity.ok(response);
     }
 
@@ -110,6 +207,14 @@ public class InventoryController {
     }
 
 
+    @PostMapping("/products/stock-sync")
+    @Operation(summary = "Synchronise stock in bulk",
+            description = "Apply absolute counts or deltas for many SKUs at once; returns the outcome per SKU")
+    public ResponseEntity<StockSyncResponse> syncStock(@Valid @RequestBody StockSyncRequest request) {
+        logger.info("REST request to sync stock for {} items", request.getItems().size());
+        return ResponseEntity.ok(stockSyncService.sync(request));
+    }
+
     @GetMapping("/products/{id}/check-stock")
     @Operation(summary = "Check stock availability", description = "Check if sufficient stock is available")
     public ResponseEntity<Map<String, Boolean>> checkStock(
@@ -121,4 +226,26 @@ public class InventoryController {
         response.put("available", available);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/products/check-stock")
+    @Operation(summary = "Check stock availability in bulk",
+            description = "Check many product/quantity pairs at once against the in-memory stock snapshot")
+    public ResponseEntity<StockCheckResponse> checkStock(@Valid @RequestBody StockCheckRequest request) {
+        logger.info("REST request to check stock for {} items", request.getItems().size());
+        return ResponseEntity.ok(inventoryService.checkStock(request));
+    }
+
+    private boolean acceptsGzip(WebRequest webRequest) {
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,69 @@
+package com.ecommerce.inventoryservice.controller;
+
+import com.ecommerce.inventoryservice.catalog.ProductImportJob;
+import com.ecommerce.inventoryservice.catalog.ProductImportMode;
+import com.ecommerce.inventoryservice.catalog.ProductImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/inventory/products")
+@Tag(name = "Catalog Import", description = "APIs for bulk loading products from CSV or NDJSON")
+public class ProductImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductImportController.class);
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "Import products",
+            description = "Stream a CSV (with header) or NDJSON catalog; mode=insert rejects existing SKUs, mode=upsert updates them")
+    public ResponseEntity<ProductImportJob> importProducts(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(defaultValue = "insert") String mode) {
+        logger.info("REST request to import products ({}, mode {})", contentType, mode);
+        ProductImportJob job = productImportService.importProducts(body, contentType, ProductImportMode.fromParameter(mode));
+        return ResponseEntity.ok(job);
+    }
+
+    @GetMapping("/imports")
+    @Operation(summary = "List imports", description = "Recent product imports, newest first")
+    public ResponseEntity<List<ProductImportJob>> getImports() {
+        return ResponseEntity.ok(productImportService.getJobs());
+    }
+
+    @GetMapping("/imports/{id}")
+    @Operation(summary = "Get import", description = "Progress and counters of one product import")
+    public ResponseEntity<ProductImportJob> getImport(@PathVariable String id) {
+        return ResponseEntity.ok(productImportService.getJob(id));
+    }
+
+    @GetMapping(value = "/imports/{id}/errors", produces = "application/x-ndjson")
+    @Operation(summary = "Get import errors", description = "Rejected rows of a product import, one JSON object per line")
+    public ResponseEntity<Resource> getImportErrors(@PathVariable String id) throws IOException {
+        ProductImportJob job = productImportService.getJob(id);
+        if (job.getErrorFile() == null || !Files.exists(job.getErrorFile())) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .contentLength(Files.size(job.getErrorFile()))
+                .body(new FileSystemResource(job.getErrorFile()));
+    }
+}
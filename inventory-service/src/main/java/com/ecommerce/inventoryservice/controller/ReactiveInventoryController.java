@@ -0,0 +1,52 @@
+package com.ecommerce.inventoryservice.controller;
+
+import com.ecommerce.inventoryservice.dto.ProductResponse;
+import com.ecommerce.inventoryservice.service.ReactiveInventoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Non-blocking variants of the product read endpoints. Collections are streamed with
+ * backpressure as newline-delimited JSON when the client accepts
+ * {@code application/x-ndjson}, and returned as a regular JSON array otherwise.
+ */
+@RestController
+@RequestMapping("/api/inventory/reactive")
+@Tag(name = "Inventory Reads (reactive)", description = "Non-blocking product read APIs")
+public class ReactiveInventoryController {
+
+    @Autowired
+    private ReactiveInventoryService reactiveInventoryService;
+
+    @GetMapping("/products/{id}")
+    @Operation(summary = "Get product by ID", description = "Retrieve product details by product ID")
+    public Mono<ProductResponse> getProductById(@PathVariable Long id) {
+        return reactiveInventoryService.getProductById(id);
+    }
+
+    @GetMapping(value = "/products", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Get all products", description = "Stream all products in the inventory")
+    public Flux<ProductResponse> getAllProducts() {
+        return reactiveInventoryService.getAllProducts();
+    }
+
+    @GetMapping(value = "/products/active", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Get active products", description = "Stream all active products")
+    public Flux<ProductResponse> getActiveProducts() {
+        return reactiveInventoryService.getActiveProducts();
+    }
+
+    @GetMapping("/products/{id}/check-stock")
+    @Operation(summary = "Check stock availability", description = "Check if sufficient stock is available")
+    public Mono<Map<String, Boolean>> checkStock(@PathVariable Long id, @RequestParam Integer quantity) {
+        return reactiveInventoryService.checkStock(id, quantity)
+                .map(available -> Map.of("available", available));
+    }
+}
@@ -0,0 +1,170 @@
+package com.ecommerce.inventoryservice.controller;
+
+import com.ecommerce.common.datasource.ReadWriteRoutingDataSource;
+import com.ecommerce.inventoryservice.catalog.ActiveCatalogService;
+import com.ecommerce.inventoryservice.config.HibernateCacheConfig;
+import com.ecommerce.inventoryservice.model.Product;
+import com.ecommerce.inventoryservice.search.ProductSearchIndex;
+import com.ecommerce.inventoryservice.search.ProductSearchService;
+import com.ecommerce.inventoryservice.stock.StockSnapshot;
+import com.ecommerce.inventoryservice.stock.StockSnapshotService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.NaturalIdStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/stats")
+@Tag(name = "Runtime Stats", description = "Runtime diagnostics for capacity testing")
+public class StatsController {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private ProductSearchService productSearchService;
+
+    @Autowired
+    private StockSnapshotService stockSnapshotService;
+
+    @Autowired
+    private ActiveCatalogService activeCatalogService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @GetMapping("/connections")
+    @Operation(summary = "Connection pool usage", description = "Current usage of the primary, replica and R2DBC connection pools")
+    public ResponseEntity<Map<String, Object>> getConnectionStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("primary", jdbcPoolStats(primaryDataSource, ReadWriteRoutingDataSource.Route.PRIMARY));
+        stats.put("replica", jdbcPoolStats(replicaDataSource, ReadWriteRoutingDataSource.Route.REPLICA));
+        stats.put("r2dbc", r2dbcPoolStats());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/search-index")
+    @Operation(summary = "Search index size", description = "Size and estimated heap footprint of the product search index")
+    public ResponseEntity<Map<String, Object>> getSearchIndexStats() {
+        ProductSearchIndex.Stats indexStats = productSearchService.stats();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", productSearchService.isReady());
+        stats.put("products", indexStats.products());
+        stats.put("tombstones", indexStats.tombstones());
+        stats.put("terms", indexStats.terms());
+        stats.put("postings", indexStats.postings());
+        stats.put("estimatedBytes", indexStats.estimatedBytes());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/stock-snapshot")
+    @Operation(summary = "Stock snapshot size", description = "Size and estimated heap footprint of the in-memory stock snapshot")
+    public ResponseEntity<Map<String, Object>> getStockSnapshotStats() {
+        StockSnapshot.Stats snapshotStats = stockSnapshotService.stats();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", stockSnapshotService.isReady());
+        stats.put("products", snapshotStats.products());
+        stats.put("removed", snapshotStats.removed());
+        stats.put("capacity", snapshotStats.capacity());
+        stats.put("estimatedBytes", snapshotStats.estimatedBytes());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/active-catalog")
+    @Operation(summary = "Active catalog snapshot", description = "Size and rebuilds of the pre-encoded active catalog")
+    public ResponseEntity<Map<String, Object>> getActiveCatalogStats() {
+        return ResponseEntity.ok(activeCatalogService.stats());
+    }
+
+    @GetMapping("/hibernate-cache")
+    @Operation(summary = "Second-level cache", description = "Hits, misses and puts per Hibernate cache region")
+    public ResponseEntity<Map<String, Object>> getHibernateCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            regions.put(region, regionStats(statistics.getCacheRegionStatistics(region)));
+        }
+        stats.put("regions", regions);
+        NaturalIdStatistics bySku = statistics.getNaturalIdStatistics(Product.class.getName());
+        Map<String, Object> naturalId = new LinkedHashMap<>();
+        naturalId.put("region", HibernateCacheConfig.PRODUCT_SKU_REGION);
+        naturalId.put("queries", bySku.getExecutionCount());
+        naturalId.put("averageQueryMillis", bySku.getExecutionAvgTime());
+        stats.put("productsBySku", naturalId);
+        return ResponseEntity.ok(stats);
+    }
+
+    private Map<String, Object> regionStats(CacheRegionStatistics region) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (region == null) {
+            return stats;
+        }
+        long hits = region.getHitCount();
+        long misses = region.getMissCount();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        stats.put("puts", region.getPutCount());
+        return stats;
+    }
+
+    private Map<String, Object> jdbcPoolStats(HikariDataSource dataSource, ReadWriteRoutingDataSource.Route route) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool != null) {
+            stats.put("active", pool.getActiveConnections());
+            stats.put("idle", pool.getIdleConnections());
+            stats.put("total", pool.getTotalConnections());
+            stats.put("pending", pool.getThreadsAwaitingConnection());
+        }
+        stats.put("max", dataSource.getMaximumPoolSize());
+        stats.put("connectionsRouted", routingDataSource.getConnectionsRouted(route));
+        return stats;
+    }
+
+    private Map<String, Object> r2dbcPoolStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (connectionFactory instanceof ConnectionPool pool) {
+            pool.getMetrics().ifPresent(metrics -> putR2dbcMetrics(stats, metrics));
+        }
+        return stats;
+    }
+
+    private void putR2dbcMetrics(Map<String, Object> stats, PoolMetrics metrics) {
+        stats.put("active", metrics.acquiredSize());
+        stats.put("idle", metrics.idleSize());
+        stats.put("total", metrics.allocatedSize());
+        stats.put("pending", metrics.pendingAcquireSize());
+        stats.put("max", metrics.getMaxAllocatedSize());
+    }
+}
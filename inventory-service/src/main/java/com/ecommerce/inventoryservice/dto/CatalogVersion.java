@@ -0,0 +1,57 @@
+package com.ecommerce.inventoryservice.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Summary of a product collection that changes whenever a product in it is added,
+ * removed or updated: row count, latest {@code updatedAt} and the sum of versions.
+ * Can be computed by the database without loading any product.
+ */
+public class CatalogVersion {
+
+    private final long count;
+    private final LocalDateTime lastUpdatedAt;
+    private final long versionSum;
+
+    public CatalogVersion(Long count, LocalDateTime lastUpdatedAt, Long versionSum) {
+        this.count = count != null ? count : 0;
+        this.lastUpdatedAt = lastUpdatedAt;
+        this.versionSum = versionSum != null ? versionSum : 0;
+    }
+
+    public static CatalogVersion of(List<ProductResponse> products) {
+        LocalDateTime lastUpdatedAt = null;
+        long versionSum = 0;
+        for (ProductResponse product : products) {
+            if (lastUpdatedAt == null || product.getUpdatedAt().isAfter(lastUpdatedAt)) {
+                lastUpdatedAt = product.getUpdatedAt();
+            }
+            versionSum += product.getVersion();
+        }
+        return new CatalogVersion((long) products.size(), lastUpdatedAt, versionSum);
+    }
+
+    /**
+     * Strong entity tag for the collection.
+     */
+    public String toETag() {
+        // Database timestamps carry microseconds at most
+        long lastUpdatedMicros = lastUpdatedAt == null ? 0
+                : lastUpdatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastUpdatedAt.getNano() / 1_000;
+        return "\"" + count + "-" + Long.toHexString(lastUpdatedMicros) + "-" + versionSum + "\"";
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public LocalDateTime getLastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+
+    public long getVersionSum() {
+        return versionSum;
+    }
+}
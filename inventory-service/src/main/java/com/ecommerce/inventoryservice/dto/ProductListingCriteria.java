@@ -0,0 +1,166 @@
+package com.ecommerce.inventoryservice.dto;
+
+import com.ecommerce.inventoryservice.exception.InvalidListingRequestException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Filters, sort order and keyset position of a product listing page.
+ *
+ * The cursor is an opaque token holding the sort value and id of the last product of
+ * the previous page; the next page starts strictly after that (value, id) pair.
+ */
+public class ProductListingCriteria {
+
+    public static final int MAX_LIMIT = 200;
+
+    public enum SortField {
+        PRICE("price"), NAME("name"), UPDATED_AT("updatedAt");
+
+        private final String property;
+
+        SortField(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public static SortField fromParameter(String parameter) {
+            for (SortField field : values()) {
+                if (field.property.equalsIgnoreCase(parameter)) {
+                    return field;
+                }
+            }
+            throw new InvalidListingRequestException("Unsupported sort field: " + parameter
+                    + " (expected price, name or updatedAt)");
+        }
+    }
+
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private boolean inStockOnly;
+    private Boolean active;
+    private SortField sortField = SortField.PRICE;
+    private boolean descending;
+    private int limit = 50;
+    private Comparable<?> afterValue;
+    private Long afterId;
+
+    public ProductListingCriteria() {
+    }
+
+    public void validate() {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new InvalidListingRequestException("minPrice must not be greater than maxPrice");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidListingRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    /**
+     * Position after the given product, for the cursor of the next page.
+     */
+    public String cursorAfter(ProductResponse last) {
+        String value = switch (sortField) {
+            case PRICE -> last.getPrice().toPlainString();
+            case NAME -> last.getName();
+            case UPDATED_AT -> last.getUpdatedAt().toString();
+        };
+        String raw = sortField.getProperty() + "|" + (descending ? "desc" : "asc") + "|" + last.getId() + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void applyCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // Sort value last: names may contain the separator
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !parts[0].equals(sortField.getProperty())
+                    || !parts[1].equals(descending ? "desc" : "asc")) {
+                throw new InvalidListingRequestException("Cursor does not belong to this sort order");
+            }
+            afterId = Long.parseLong(parts[2]);
+            afterValue = switch (sortField) {
+                case PRICE -> new BigDecimal(parts[3]);
+                case NAME -> parts[3];
+                case UPDATED_AT -> LocalDateTime.parse(parts[3]);
+            };
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidListingRequestException("Malformed cursor");
+        }
+    }
+
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(BigDecimal minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(BigDecimal maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public boolean isInStockOnly() {
+        return inStockOnly;
+    }
+
+    public void setInStockOnly(boolean inStockOnly) {
+        this.inStockOnly = inStockOnly;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public SortField getSortField() {
+        return sortField;
+    }
+
+    public void setSortField(SortField sortField) {
+        this.sortField = sortField;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public void setDescending(boolean descending) {
+        this.descending = descending;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public Comparable<?> getAfterValue() {
+        return afterValue;
+    }
+
+    public Long getAfterId() {
+        return afterId;
+    }
+}
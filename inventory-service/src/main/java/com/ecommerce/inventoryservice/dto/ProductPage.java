@@ -0,0 +1,36 @@
+package com.ecommerce.inventoryservice.dto;
+
+import java.util.List;
+
+public class ProductPage {
+
+    private List<ProductResponse> items;
+    private String nextCursor;
+
+    public ProductPage() {
+    }
+
+    public ProductPage(List<ProductResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ProductResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductResponse> items) {
+        this.items = items;
+    }
+
+    /**
+     * @return cursor of the next page, or {@code null} on the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -4,17 +4,21 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
 
 public class ProductRequest {
 
     @NotBlank(message = "SKU is required")
+    @Size(max = 255, message = "SKU must be at most 255 characters")
     private String sku;
 
     @NotBlank(message = "Product name is required")
+    @Size(max = 255, message = "Product name must be at most 255 characters")
     private String name;
 
+    @Size(max = 1000, message = "Description must be at most 1000 characters")
     private String description;
 
     @NotNull(message = "Price is required")
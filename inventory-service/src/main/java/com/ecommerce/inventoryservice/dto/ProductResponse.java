@@ -2,6 +2,8 @@
 package com.ecommerce.inventoryservice.dto;
 
 import com.ecommerce.inventoryservice.model.Product;
+import com.ecommerce.inventoryservice.model.ProductRecord;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -18,6 +20,9 @@ public class ProductResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    @JsonIgnore
+    private Long version;
+
     public ProductResponse() {
     }
 
@@ -46,9 +51,37 @@ public class ProductResponse {
         response.setActive(product.getActive());
         response.setCreatedAt(product.getCreatedAt());
         response.setUpdatedAt(product.getUpdatedAt());
+        response.setVersion(product.getVersion());
+        return response;
+    }
+
+    public static ProductResponse fromRecord(ProductRecord product) {
+        ProductResponse response = new ProductResponse();
+        response.setId(product.getId());
+        response.setSku(product.getSku());
+        response.setName(product.getName());
+        response.setDescription(product.getDescription());
+        response.setPrice(product.getPrice());
+        response.setStockQuantity(product.getStockQuantity());
+        response.setActive(product.getActive());
+        response.setCreatedAt(product.getCreatedAt());
+        response.setUpdatedAt(product.getUpdatedAt());
+        response.setVersion(product.getVersion());
         return response;
     }
 
+    /**
+     * Strong entity tag of a product, derived from its {@code @Version}.
+     */
+    public static String eTag(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    @JsonIgnore
+    public String getETag() {
+        return eTag(id, version);
+    }
+
     public Long getId() {
         return id;
     }
@@ -120,4 +153,12 @@ public class ProductResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,55 @@
+package com.ecommerce.inventoryservice.dto;
+
+/**
+ * Availability of one requested line. {@code found} is false for products that do not
+ * exist, which are never available.
+ */
+public class StockCheckItemResponse {
+
+    private Long productId;
+    private Integer quantity;
+    private boolean found;
+    private boolean available;
+
+    public StockCheckItemResponse() {
+    }
+
+    public StockCheckItemResponse(Long productId, Integer quantity, boolean found, boolean available) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.found = found;
+        this.available = available;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.inventoryservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class StockCheckRequest {
+
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = 500, message = "At most 500 items can be checked at once")
+    @Valid
+    private List<StockCheckItemRequest> items;
+
+    public StockCheckRequest() {
+    }
+
+    public StockCheckRequest(List<StockCheckItemRequest> items) {
+        this.items = items;
+    }
+
+    public List<StockCheckItemRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<StockCheckItemRequest> items) {
+        this.items = items;
+    }
+}
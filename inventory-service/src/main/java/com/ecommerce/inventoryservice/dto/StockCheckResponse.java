@@ -0,0 +1,33 @@
+package com.ecommerce.inventoryservice.dto;
+
+import java.util.List;
+
+public class StockCheckResponse {
+
+    private boolean allAvailable;
+    private List<StockCheckItemResponse> items;
+
+    public StockCheckResponse() {
+    }
+
+    public StockCheckResponse(List<StockCheckItemResponse> items) {
+        this.items = items;
+        this.allAvailable = items.stream().allMatch(StockCheckItemResponse::isAvailable);
+    }
+
+    public boolean isAllAvailable() {
+        return allAvailable;
+    }
+
+    public void setAllAvailable(boolean allAvailable) {
+        this.allAvailable = allAvailable;
+    }
+
+    public List<StockCheckItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<StockCheckItemResponse> items) {
+        this.items = items;
+    }
+}
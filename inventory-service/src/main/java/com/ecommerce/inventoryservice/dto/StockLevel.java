@@ -0,0 +1,29 @@
+package com.ecommerce.inventoryservice.dto;
+
+/**
+ * Stock quantity of a product together with the product version it was read at.
+ */
+public class StockLevel {
+
+    private final long productId;
+    private final int stockQuantity;
+    private final long version;
+
+    public StockLevel(Long productId, Integer stockQuantity, Long version) {
+        this.productId = productId;
+        this.stockQuantity = stockQuantity;
+        this.version = version != null ? version : 0;
+    }
+
+    public long getProductId() {
+        return productId;
+    }
+
+    public int getStockQuantity() {
+        return stockQuantity;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
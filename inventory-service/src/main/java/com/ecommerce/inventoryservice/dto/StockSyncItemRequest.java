@@ -0,0 +1,57 @@
+package com.ecommerce.inventoryservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One stock adjustment from the warehouse: either the counted quantity
+ * ({@link Type#ABSOLUTE}) or a change to the current quantity ({@link Type#DELTA}).
+ */
+public class StockSyncItemRequest {
+
+    public enum Type {
+        ABSOLUTE, DELTA
+    }
+
+    @NotBlank(message = "SKU is required")
+    private String sku;
+
+    @NotNull(message = "Type is required")
+    private Type type;
+
+    @NotNull(message = "Quantity is required")
+    private Integer quantity;
+
+    public StockSyncItemRequest() {
+    }
+
+    public StockSyncItemRequest(String sku, Type type, Integer quantity) {
+        this.sku = sku;
+        this.type = type;
+        this.quantity = quantity;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,70 @@
+package com.ecommerce.inventoryservice.dto;
+
+/**
+ * Outcome for one SKU. {@code stockQuantity} is the quantity after the sync, or the
+ * unchanged quantity when the adjustment was rejected; it is {@code null} for unknown
+ * SKUs and failed chunks.
+ */
+public class StockSyncItemResponse {
+
+    public enum Status {
+        APPLIED, REJECTED, NOT_FOUND, FAILED
+    }
+
+    private String sku;
+    private Long productId;
+    private Status status;
+    private Integer stockQuantity;
+    private String message;
+
+    public StockSyncItemResponse() {
+    }
+
+    public StockSyncItemResponse(String sku, Long productId, Status status, Integer stockQuantity, String message) {
+        this.sku = sku;
+        this.productId = productId;
+        this.status = status;
+        this.stockQuantity = stockQuantity;
+        this.message = message;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Integer getStockQuantity() {
+        return stockQuantity;
+    }
+
+    public void setStockQuantity(Integer stockQuantity) {
+        this.stockQuantity = stockQuantity;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.inventoryservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class StockSyncRequest {
+
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = 10000, message = "At most 10000 items can be synchronised at once")
+    @Valid
+    private List<StockSyncItemRequest> items;
+
+    public StockSyncRequest() {
+    }
+
+    public StockSyncRequest(List<StockSyncItemRequest> items) {
+        this.items = items;
+    }
+
+    public List<StockSyncItemRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<StockSyncItemRequest> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.inventoryservice.dto;
+
+import java.util.List;
+
+public class StockSyncResponse {
+
+    private int applied;
+    private int rejected;
+    private int notFound;
+    private int failed;
+    private List<StockSyncItemResponse> items;
+
+    public StockSyncResponse() {
+    }
+
+    public StockSyncResponse(List<StockSyncItemResponse> items) {
+        this.items = items;
+        for (StockSyncItemResponse item : items) {
+            switch (item.getStatus()) {
+                case APPLIED -> applied++;
+                case REJECTED -> rejected++;
+                case NOT_FOUND -> notFound++;
+                case FAILED -> failed++;
+            }
+        }
+    }
+
+    public int getApplied() {
+        return applied;
+    }
+
+    public void setApplied(int applied) {
+        this.applied = applied;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public int getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(int notFound) {
+        this.notFound = notFound;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<StockSyncItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<StockSyncItemResponse> items) {
+        this.items = items;
+    }
+}
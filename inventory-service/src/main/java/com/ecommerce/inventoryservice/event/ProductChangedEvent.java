@@ -0,0 +1,55 @@
+package com.ecommerce.inventoryservice.event;
+
+import com.ecommerce.inventoryservice.dto.ProductResponse;
+
+/**
+ * Published by {@code InventoryService} whenever a product is created, updated or
+ * deleted, or only its stock changed. Listeners that keep derived in-memory state should react after commit.
+ */
+public class ProductChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, STOCK_CHANGED, DELETED
+    }
+
+    private final Long productId;
+    private final ChangeType changeType;
+    private final ProductResponse product;
+
+    public ProductChangedEvent(Long productId, ChangeType changeType, ProductResponse product) {
+        this.productId = productId;
+        this.changeType = changeType;
+        this.product = product;
+    }
+
+    public static ProductChangedEvent created(ProductResponse product) {
+        return new ProductChangedEvent(product.getId(), ChangeType.CREATED, product);
+    }
+
+    public static ProductChangedEvent updated(ProductResponse product) {
+        return new ProductChangedEvent(product.getId(), ChangeType.UPDATED, product);
+    }
+
+    public static ProductChangedEvent stockChanged(ProductResponse product) {
+        return new ProductChangedEvent(product.getId(), ChangeType.STOCK_CHANGED, product);
+    }
+
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(productId, ChangeType.DELETED, null);
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    /**
+     * @return the product as committed, or {@code null} for deletions
+     */
+    public ProductResponse getProduct() {
+        return product;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.inventoryservice.event;
+
+import com.ecommerce.inventoryservice.dto.StockLevel;
+
+import java.util.List;
+
+/**
+ * Published once per committed chunk of a bulk stock sync, in place of one
+ * {@link ProductChangedEvent} per product, so listeners can apply the whole chunk at once.
+ */
+public class StockLevelsChangedEvent {
+
+    private final List<StockLevel> stockLevels;
+
+    public StockLevelsChangedEvent(List<StockLevel> stockLevels) {
+        this.stockLevels = stockLevels;
+    }
+
+    public List<StockLevel> getStockLevels() {
+        return stockLevels;
+    }
+}
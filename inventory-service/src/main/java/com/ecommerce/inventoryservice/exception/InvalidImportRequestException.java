@@ -0,0 +1,7 @@
+package com.ecommerce.inventoryservice.exception;
+
+public class InvalidImportRequestException extends RuntimeException {
+    public InvalidImportRequestException(String message) {
+        super(message);
+    }
+}
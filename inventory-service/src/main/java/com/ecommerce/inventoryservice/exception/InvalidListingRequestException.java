@@ -0,0 +1,7 @@
+package com.ecommerce.inventoryservice.exception;
+
+public class InvalidListingRequestException extends RuntimeException {
+    public InvalidListingRequestException(String message) {
+        super(message);
+    }
+}
@@ -54,21 +54,36 @@
 
 package com.ecommerce.inventoryservice.model;
 
+import com.ecommerce.inventoryservice.config.HibernateCacheConfig;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_active_price", columnList = "active, price, id"),
+        @Index(name = "idx_products_active_name", columnList = "active, name, id"),
+        @Index(name = "idx_products_active_updated_at", columnList = "active, updated_at, id")
+})
+@Cacheable
+// READ_WRITE locks an entry while a transaction updates it and only replaces it with a newer
+// @Version, so a read that raced the update cannot put the old stock level back
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.PRODUCT_REGION)
+@NaturalIdCache(region = HibernateCacheConfig.PRODUCT_SKU_REGION)
 public class Product {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String sku;
 
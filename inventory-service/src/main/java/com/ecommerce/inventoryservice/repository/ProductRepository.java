@@ -1,23 +1,75 @@
 package com.ecommerce.inventoryservice.repository;
 
+import com.ecommerce.inventoryservice.dto.CatalogVersion;
+import com.ecommerce.inventoryservice.dto.ProductResponse;
+import com.ecommerce.inventoryservice.dto.StockLevel;
 import com.ecommerce.inventoryservice.model.Product;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+/**
+ * Queries returning products that read-only transactions run on the replica do not store
+ * them in the second-level cache, so a row from a lagging replica is never cached. The
+ * cache is filled by {@code findById} on the primary and by writes.
+ */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
-    Optional<Product> findBySku(String sku);
-    
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS"))
+    List<Product> findAll();
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS"))
+    List<Product> findAllById(Iterable<Long> ids);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS"))
     List<Product> findByActiveTrue();
+
+    /**
+     * Not stored in the second-level cache: imports call this on rows they have just
+     * written with JDBC, before the transaction commits.
+     */
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS"))
+    List<Product> findBySkuIn(Collection<String> skus);
+
+    @Query("SELECT p.sku FROM Product p WHERE p.sku IN :skus")
+    Set<String> findExistingSkus(@Param("skus") Collection<String> skus);
     
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
+
+    @Query("SELECT p.version FROM Product p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT p.stockQuantity FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockQuantityById(@Param("id") Long id);
+
+    @Query("SELECT new com.ecommerce.inventoryservice.dto.CatalogVersion(COUNT(p), MAX(p.updatedAt), SUM(p.version)) "
+            + "FROM Product p")
+    CatalogVersion findCatalogVersion();
+
+    @Query("SELECT new com.ecommerce.inventoryservice.dto.ProductResponse(p.id, p.sku, p.name, p.description, "
+            + "p.price, p.stockQuantity, p.active, p.createdAt, p.updatedAt) "
+            + "FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<ProductResponse> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS"))
+    @Query("SELECT p FROM Product p WHERE p.active = true AND p.id > :afterId ORDER BY p.id")
+    List<Product> findActiveAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.ecommerce.inventoryservice.dto.StockLevel(p.id, p.stockQuantity, p.version) "
+            + "FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<StockLevel> findStockLevelsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
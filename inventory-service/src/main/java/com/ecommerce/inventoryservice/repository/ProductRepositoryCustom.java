@@ -0,0 +1,22 @@
+package com.ecommerce.inventoryservice.repository;
+
+import com.ecommerce.inventoryservice.dto.ProductListingCriteria;
+import com.ecommerce.inventoryservice.model.Product;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * One keyset page of products matching the criteria, with up to {@code limit + 1}
+     * rows so the caller can tell whether another page follows.
+     */
+    List<Product> findListingPage(ProductListingCriteria criteria);
+
+    /**
+     * Looks the SKU up by natural id, so a known SKU is answered from the second-level
+     * cache. Must be called in a transaction.
+     */
+    Optional<Product> findBySku(String sku);
+}
@@ -0,0 +1,98 @@
+package com.ecommerce.inventoryservice.repository;
+
+import com.ecommerce.inventoryservice.dto.ProductListingCriteria;
+import com.ecommerce.inventoryservice.model.Product;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds the listing query with the Criteria API so that every filter, the sort and
+ * the keyset position end up in SQL.
+ *
+ * The keyset condition is written as {@code sort >= v AND (sort > v OR id > lastId)}
+ * (mirrored for descending order) rather than a plain OR: the first term is a range on
+ * the leading sort column that the composite indexes can seek to, the second only
+ * filters rows sharing the boundary value.
+ *
+ * SKU lookups go through Hibernate's natural-id API, which the Spring Data query
+ * derivation cannot use.
+ */
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Product> findListingPage(ProductListingCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Product> query = cb.createQuery(Product.class);
+        Root<Product> product = query.from(Product.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.getActive() != null) {
+            predicates.add(cb.equal(product.get("active"), criteria.getActive()));
+        }
+        if (criteria.getMinPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(product.get("price"), criteria.getMinPrice()));
+        }
+        if (criteria.getMaxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(product.get("price"), criteria.getMaxPrice()));
+        }
+        if (criteria.isInStockOnly()) {
+            predicates.add(cb.greaterThan(product.get("stockQuantity"), 0));
+        }
+
+        Path<Comparable<Object>> sortColumn = product.get(criteria.getSortField().getProperty());
+        Path<Long> id = product.get("id");
+        if (criteria.getAfterId() != null) {
+            predicates.add(keysetPredicate(cb, sortColumn, id, criteria));
+        }
+
+        query.select(product).where(predicates.toArray(new Predicate[0]));
+        if (criteria.isDescending()) {
+            query.orderBy(cb.desc(sortColumn), cb.desc(id));
+        } else {
+            query.orderBy(cb.asc(sortColumn), cb.asc(id));
+        }
+
+        return entityManager.createQuery(query)
+                .setHint(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS)
+                .setMaxResults(criteria.getLimit() + 1)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<Product> findBySku(String sku) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Product.class)
+                .loadOptional(sku);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate keysetPredicate(CriteriaBuilder cb, Expression<Comparable<Object>> sortColumn,
+                                      Expression<Long> id, ProductListingCriteria criteria) {
+        Comparable<Object> value = (Comparable<Object>) criteria.getAfterValue();
+        Long afterId = criteria.getAfterId();
+        if (criteria.isDescending()) {
+            return cb.and(
+                    cb.lessThanOrEqualTo(sortColumn, value),
+                    cb.or(cb.lessThan(sortColumn, value), cb.lessThan(id, afterId)));
+        }
+        return cb.and(
+                cb.greaterThanOrEqualTo(sortColumn, value),
+                cb.or(cb.greaterThan(sortColumn, value), cb.greaterThan(id, afterId)));
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.inventoryservice.repository;
+
+import com.ecommerce.inventoryservice.model.ProductRecord;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveProductRepository extends R2dbcRepository<ProductRecord, Long> {
+
+    Flux<ProductRecord> findByActiveTrue();
+
+    @Query("SELECT stock_quantity FROM products WHERE id = :id")
+    Mono<Integer> findStockQuantityById(Long id);
+}
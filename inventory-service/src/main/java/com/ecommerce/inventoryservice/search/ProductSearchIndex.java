@@ -0,0 +1,512 @@
+package com.ecommerce.inventoryservice.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over product SKU, name and description.
+ *
+ * Text is lower-cased and split on anything that is not a letter or digit. Every query
+ * token must match a term of the product, either exactly or as a prefix; a product's
+ * score is the sum, over the query tokens, of the weight of the best field the token
+ * matched in, doubled for exact matches.
+ *
+ * Products are addressed internally by dense document ids. Updating a product gives
+ * it a new document id and leaves its old postings behind as tombstones, which are
+ * skipped at query time and dropped by {@link #compact()} once they outnumber the live
+ * documents. Reads run concurrently; updates take a write lock.
+ */
+public class ProductSearchIndex {
+
+    static final int SKU_WEIGHT = 8;
+    static final int NAME_WEIGHT = 4;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final int FIELD_SKU = 1;
+    private static final int FIELD_NAME = 2;
+    private static final int FIELD_DESCRIPTION = 4;
+    private static final int FIELD_BITS = 3;
+    private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+
+    /** Upper bound on the terms a single prefix expands to, so short prefixes stay cheap. */
+    private static final int MAX_PREFIX_EXPANSIONS = 128;
+
+    /** Per-query working arrays kept for reuse; one per concurrently running query is enough. */
+    private static final int MAX_POOLED_SCRATCH = Runtime.getRuntime().availableProcessors();
+
+    /** Upper bound on distinct description terms indexed per product. */
+    private static final int MAX_DESCRIPTION_TERMS = 64;
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<Long, Integer> docsByProductId = new HashMap<>();
+    private final BitSet liveDocs = new BitSet();
+    private final BitSet activeDocs = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<Scratch> scratchPool = new ConcurrentLinkedQueue<>();
+
+    private long[] productIds = new long[1024];
+    private int nextDoc;
+    private long postingCount;
+
+    /**
+     * Adds a product, or replaces what is indexed for it.
+     */
+    public void put(Long productId, String sku, String name, String description, boolean active) {
+        Map<String, Integer> fieldsByTerm = new LinkedHashMap<>();
+        addTerms(fieldsByTerm, sku, FIELD_SKU, Integer.MAX_VALUE);
+        addTerms(fieldsByTerm, name, FIELD_NAME, Integer.MAX_VALUE);
+        addTerms(fieldsByTerm, description, FIELD_DESCRIPTION, MAX_DESCRIPTION_TERMS);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(productId);
+            int doc = nextDoc++;
+            if (doc == productIds.length) {
+                productIds = Arrays.copyOf(productIds, doc * 2);
+            }
+            productIds[doc] = productId;
+            docsByProductId.put(productId, doc);
+            liveDocs.set(doc);
+            activeDocs.set(doc, active);
+
+            fieldsByTerm.forEach((term, fields) ->
+                    terms.computeIfAbsent(term, key -> new Postings()).add(doc << FIELD_BITS | fields));
+            postingCount += fieldsByTerm.size();
+
+            if (nextDoc - docsByProductId.size() > Math.max(docsByProductId.size(), 10_000)) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long productId) {
+        Integer doc = docsByProductId.remove(productId);
+        if (doc != null) {
+            liveDocs.clear(doc);
+            activeDocs.clear(doc);
+        }
+    }
+
+    /**
+     * @param query      free text; the last token is typically incomplete
+     * @param limit      maximum number of hits
+     * @param activeOnly whether to skip inactive products
+     * @return best matching products, highest score first
+     */
+    public List<Hit> search(String query, int limit, boolean activeOnly) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(query));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        Scratch scratch = acquireScratch();
+        try {
+            List<List<Match>> matchesPerToken = new ArrayList<>();
+            for (String token : tokens) {
+                List<Match> matches = lookup(token);
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+                matchesPerToken.add(matches);
+            }
+            // Start from the most selective token so later tokens only probe a small candidate set
+            matchesPerToken.sort((a, b) -> Long.compare(postingsIn(a), postingsIn(b)));
+
+            int epoch = scratch.begin(matchesPerToken.size(), nextDoc);
+            collectFirstToken(scratch, matchesPerToken.get(0), epoch, activeOnly);
+            for (int token = 1; token < matchesPerToken.size() && scratch.candidateCount > 0; token++) {
+                List<Match> matches = matchesPerToken.get(token);
+                // Few candidates against long postings: look each candidate up instead of scanning
+                if ((long) scratch.candidateCount * matches.size() * 24 < postingsIn(matches)) {
+                    probeToken(scratch, matches, epoch + token);
+                } else {
+                    scanToken(scratch, matches, epoch + token);
+                }
+            }
+            return topHits(scratch, limit);
+        } finally {
+            releaseScratch(scratch);
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Exact term for the token, plus up to {@link #MAX_PREFIX_EXPANSIONS} terms it is a prefix of.
+     */
+    private List<Match> lookup(String token) {
+        List<Match> matches = new ArrayList<>();
+        Postings exact = terms.get(token);
+        if (exact != null) {
+            matches.add(new Match(exact, true));
+        }
+        Iterator<Postings> longer = terms.subMap(token, false, token + Character.MAX_VALUE, false)
+                .values().iterator();
+        while (longer.hasNext() && matches.size() < MAX_PREFIX_EXPANSIONS) {
+            matches.add(new Match(longer.next(), false));
+        }
+        return matches;
+    }
+
+    private static long postingsIn(List<Match> matches) {
+        long total = 0;
+        for (Match match : matches) {
+            total += match.postings().size;
+        }
+        return total;
+    }
+
+    /*
+     * A document's slot holds stamp << 32 | score << 8 | best weight for the current token.
+     * The stamp epoch + token marks the documents that matched every token so far; the
+     * candidate list holds the same documents for cheap enumeration.
+     */
+
+    private void collectFirstToken(Scratch scratch, List<Match> matches, int epoch, boolean activeOnly) {
+        long[] slots = scratch.slots;
+        for (Match match : matches) {
+            Postings postings = match.postings();
+            int multiplier = match.exact() ? 2 : 1;
+            for (int i = 0; i < postings.size; i++) {
+                int entry = postings.entries[i];
+                int doc = entry >>> FIELD_BITS;
+                int weight = fieldWeight(entry) * multiplier;
+                long slot = slots[doc];
+
+                if ((int) (slot >>> 32) == epoch) {
+                    keepBest(slots, doc, slot, epoch, weight);
+                } else if (liveDocs.get(doc) && (!activeOnly || activeDocs.get(doc))) {
+                    slots[doc] = pack(epoch, weight, weight);
+                    scratch.addCandidate(doc);
+                }
+            }
+        }
+    }
+
+    private void scanToken(Scratch scratch, List<Match> matches, int stamp) {
+        long[] slots = scratch.slots;
+        for (Match match : matches) {
+            Postings postings = match.postings();
+            int multiplier = match.exact() ? 2 : 1;
+            for (int i = 0; i < postings.size; i++) {
+                int entry = postings.entries[i];
+                int doc = entry >>> FIELD_BITS;
+                int weight = fieldWeight(entry) * multiplier;
+                long slot = slots[doc];
+                int slotStamp = (int) (slot >>> 32);
+
+                if (slotStamp == stamp) {
+                    keepBest(slots, doc, slot, stamp, weight);
+                } else if (slotStamp == stamp - 1) {
+                    slots[doc] = pack(stamp, score(slot) + weight, weight);
+                }
+            }
+        }
+        scratch.retainStamped(stamp);
+    }
+
+    private void probeToken(Scratch scratch, List<Match> matches, int stamp) {
+        long[] slots = scratch.slots;
+        for (int c = 0; c < scratch.candidateCount; c++) {
+            int doc = scratch.candidates[c];
+            int best = 0;
+            for (Match match : matches) {
+                int entry = match.postings().find(doc);
+                if (entry >= 0) {
+                    best = Math.max(best, fieldWeight(entry) * (match.exact() ? 2 : 1));
+                }
+            }
+            if (best > 0) {
+                slots[doc] = pack(stamp, score(slots[doc]) + best, best);
+            }
+        }
+        scratch.retainStamped(stamp);
+    }
+
+    private static void keepBest(long[] slots, int doc, long slot, int stamp, int weight) {
+        int best = (int) (slot & 0xFF);
+        if (weight > best) {
+            slots[doc] = pack(stamp, score(slot) + weight - best, weight);
+        }
+    }
+
+    private static int score(long slot) {
+        return (int) (slot >>> 8 & 0xFFFFFF);
+    }
+
+    private static long pack(int stamp, int score, int best) {
+        return (long) stamp << 32 | (long) score << 8 | best;
+    }
+
+    private static int fieldWeight(int entry) {
+        if ((entry & FIELD_SKU) != 0) {
+            return SKU_WEIGHT;
+        }
+        return (entry & FIELD_NAME) != 0 ? NAME_WEIGHT : DESCRIPTION_WEIGHT;
+    }
+
+    private List<Hit> topHits(Scratch scratch, int limit) {
+        // Keys order by score, then by the older document; the heap keeps the best {@code limit}
+        PriorityQueue<Long> top = new PriorityQueue<>(limit + 1);
+        for (int c = 0; c < scratch.candidateCount; c++) {
+            int doc = scratch.candidates[c];
+            long key = (long) score(scratch.slots[doc]) << 32 | (Integer.MAX_VALUE - doc);
+            if (top.size() < limit) {
+                top.add(key);
+            } else if (key > top.peek()) {
+                top.poll();
+                top.add(key);
+            }
+        }
+        Hit[] hits = new Hit[top.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            long key = top.poll();
+            int doc = Integer.MAX_VALUE - (int) key;
+            hits[i] = new Hit(productIds[doc], (int) (key >>> 32));
+        }
+        return Arrays.asList(hits);
+    }
+
+    private Scratch acquireScratch() {
+        Scratch scratch = scratchPool.poll();
+        return scratch != null ? scratch : new Scratch();
+    }
+
+    private void releaseScratch(Scratch scratch) {
+        if (scratchPool.size() < MAX_POOLED_SCRATCH) {
+            scratchPool.offer(scratch);
+        }
+    }
+
+    /**
+     * Drops tombstoned postings and renumbers the live documents densely.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            int[] newDocs = new int[nextDoc];
+            long[] newProductIds = new long[Math.max(1024, docsByProductId.size() * 2)];
+            BitSet newActive = new BitSet();
+            int live = 0;
+            for (int doc = liveDocs.nextSetBit(0); doc >= 0; doc = liveDocs.nextSetBit(doc + 1)) {
+                newDocs[doc] = live;
+                newProductIds[live] = productIds[doc];
+                newActive.set(live, activeDocs.get(doc));
+                docsByProductId.put(productIds[doc], live);
+                live++;
+            }
+
+            postingCount = 0;
+            Iterator<Postings> iterator = terms.values().iterator();
+            while (iterator.hasNext()) {
+                Postings postings = iterator.next();
+                int kept = 0;
+                for (int i = 0; i < postings.size; i++) {
+                    int entry = postings.entries[i];
+                    int doc = entry >>> FIELD_BITS;
+                    if (liveDocs.get(doc)) {
+                        postings.entries[kept++] = newDocs[doc] << FIELD_BITS | (entry & FIELD_MASK);
+                    }
+                }
+                if (kept == 0) {
+                    iterator.remove();
+                } else {
+                    postings.size = kept;
+                    postings.trim();
+                    postingCount += kept;
+                }
+            }
+
+            productIds = newProductIds;
+            liveDocs.clear();
+            liveDocs.set(0, live);
+            activeDocs.clear();
+            activeDocs.or(newActive);
+            nextDoc = live;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            long termBytes = 0;
+            long postingBytes = 0;
+            for (Map.Entry<String, Postings> entry : terms.entrySet()) {
+                // TreeMap entry + String + its byte[] value
+                termBytes += 40 + 24 + 16 + entry.getKey().length();
+                // Postings object + int[] header and capacity
+                postingBytes += 16 + 16 + 4L * entry.getValue().entries.length;
+            }
+            long docBytes = 8L * productIds.length + (liveDocs.size() + activeDocs.size()) / 8
+                    + 48L * docsByProductId.size();
+            return new Stats(docsByProductId.size(), nextDoc - docsByProductId.size(), terms.size(),
+                    postingCount, termBytes + postingBytes + docBytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addTerms(Map<String, Integer> fieldsByTerm, String text, int field, int maxNewTerms) {
+        int added = 0;
+        for (String token : tokenize(text)) {
+            Integer fields = fieldsByTerm.get(token);
+            if (fields != null) {
+                fieldsByTerm.put(token, fields | field);
+            } else if (added < maxNewTerms) {
+                fieldsByTerm.put(token, field);
+                added++;
+            }
+        }
+    }
+
+    /**
+     * A search result: product id and relevance score.
+     */
+    public record Hit(long productId, int score) {
+    }
+
+    /**
+     * Size of the index, with an estimate of its heap footprint.
+     */
+    public record Stats(int products, int tombstones, int terms, long postings, long estimatedBytes) {
+    }
+
+    private record Match(Postings postings, boolean exact) {
+    }
+
+    /**
+     * One slot per document, reused across queries: each query claims a fresh range of
+     * stamps instead of clearing the array.
+     */
+    private static final class Scratch {
+
+        private long[] slots = new long[0];
+        private int nextEpoch = 1;
+        private int[] candidates = new int[256];
+        private int candidateCount;
+
+        int begin(int tokens, int documents) {
+            candidateCount = 0;
+            if (slots.length < documents) {
+                slots = new long[Math.max(documents, slots.length * 2)];
+                nextEpoch = 1;
+            }
+            if (nextEpoch > Integer.MAX_VALUE - tokens - 1) {
+                Arrays.fill(slots, 0);
+                nextEpoch = 1;
+            }
+            int epoch = nextEpoch;
+            nextEpoch += tokens;
+            return epoch;
+        }
+
+        void addCandidate(int doc) {
+            if (candidateCount == candidates.length) {
+                candidates = Arrays.copyOf(candidates, candidateCount * 2);
+            }
+            candidates[candidateCount++] = doc;
+        }
+
+        /** Keeps the candidates that matched the token stamped {@code stamp}. */
+        void retainStamped(int stamp) {
+            int kept = 0;
+            for (int c = 0; c < candidateCount; c++) {
+                int doc = candidates[c];
+                if ((int) (slots[doc] >>> 32) == stamp) {
+                    candidates[kept++] = doc;
+                }
+            }
+            candidateCount = kept;
+        }
+    }
+
+    /**
+     * Growable list of {@code doc << FIELD_BITS | fields} entries in ascending document order.
+     */
+    private static final class Postings {
+
+        private int[] entries = new int[2];
+        private int size;
+
+        void add(int entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size + (size >> 1) + 1);
+            }
+            entries[size++] = entry;
+        }
+
+        /**
+         * @return the entry for {@code doc}, or -1
+         */
+        int find(int doc) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int midDoc = entries[mid] >>> FIELD_BITS;
+                if (midDoc < doc) {
+                    low = mid + 1;
+                } else if (midDoc > doc) {
+                    high = mid - 1;
+                } else {
+                    return entries[mid];
+                }
+            }
+            return -1;
+        }
+
+        void trim() {
+            if (entries.length > size + (size >> 2) + 1) {
+                entries = Arrays.copyOf(entries, size);
+            }
+        }
+    }
+}
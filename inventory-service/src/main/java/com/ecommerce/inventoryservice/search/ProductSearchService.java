@@ -0,0 +1,121 @@
+package com.ecommerce.inventoryservice.search;
+
+import com.ecommerce.inventoryservice.dto.ProductResponse;
+import com.ecommerce.inventoryservice.event.ProductChangedEvent;
+import com.ecommerce.inventoryservice.model.Product;
+import com.ecommerce.inventoryservice.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps a {@link ProductSearchIndex} in step with the products table: a full build when
+ * the application is ready, then one incremental update per committed product change.
+ */
+@Service
+public class ProductSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductSearchService.class);
+
+    private final ProductSearchIndex index = new ProductSearchIndex();
+
+    /** Products changed while the initial build runs; the build must not overwrite them. */
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Value("${search.index.build-batch-size:5000}")
+    private int buildBatchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long started = System.nanoTime();
+        long lastId = 0;
+        int indexed = 0;
+
+        List<ProductResponse> batch;
+        do {
+            batch = productRepository.findSearchDocumentsAfter(lastId, PageRequest.ofSize(buildBatchSize));
+            for (ProductResponse product : batch) {
+                if (!changedDuringBuild.contains(product.getId())) {
+                    put(product);
+                }
+                lastId = product.getId();
+            }
+            indexed += batch.size();
+        } while (batch.size() == buildBatchSize);
+
+        ready = true;
+        changedDuringBuild.clear();
+        logger.info("Product search index built: {} products in {} ms",
+                indexed, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getChangeType() == ProductChangedEvent.ChangeType.STOCK_CHANGED) {
+            // Nothing searchable changed
+            return;
+        }
+        if (!ready) {
+            changedDuringBuild.add(event.getProductId());
+        }
+        if (event.getChangeType() == ProductChangedEvent.ChangeType.DELETED) {
+            index.remove(event.getProductId());
+        } else {
+            put(event.getProduct());
+        }
+    }
+
+    private void put(ProductResponse product) {
+        index.put(product.getId(), product.getSku(), product.getName(), product.getDescription(),
+                Boolean.TRUE.equals(product.getActive()));
+    }
+
+    /**
+     * Ranks products by the index, then loads the best {@code limit} of them.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductResponse> search(String query, int limit, boolean activeOnly) {
+        List<ProductSearchIndex.Hit> hits = index.search(query, limit, activeOnly);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = hits.stream().map(ProductSearchIndex.Hit::productId).toList();
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // A product deleted since the hit was ranked is simply left out
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(ProductResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public ProductSearchIndex.Stats stats() {
+        return index.stats();
+    }
+}
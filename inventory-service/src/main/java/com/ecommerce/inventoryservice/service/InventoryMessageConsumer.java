@@ -20,7 +20,7 @@ public class InventoryMessageConsumer {
     @RabbitListener(queues = "${rabbitmq.queue.inventory}")
     public void consumeInventoryMessage(Map<String, Object> inventoryEvent) {
         logger.info("Received inventory event from queue");
-        logger.info("Event details: {}", inventoryEvent);
+        logger.debug("Event details: {}", inventoryEvent);
         logger.info("Inventory processing completed successfully");
     }
 }
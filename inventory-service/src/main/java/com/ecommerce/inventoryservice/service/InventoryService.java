@@ -1,19 +1,29 @@
 package com.ecommerce.inventoryservice.service;
 
+import com.ecommerce.common.datasource.ReadWriteRoutingDataSource;
+import com.ecommerce.inventoryservice.dto.ProductListingCriteria;
+import com.ecommerce.inventoryservice.dto.ProductPage;
 import com.ecommerce.inventoryservice.dto.ProductRequest;
 import com.ecommerce.inventoryservice.dto.ProductResponse;
+import com.ecommerce.inventoryservice.dto.StockCheckRequest;
+import com.ecommerce.inventoryservice.dto.StockCheckResponse;
+import com.ecommerce.inventoryservice.event.ProductChangedEvent;
 import com.ecommerce.inventoryservice.exception.DuplicateProductException;
 import com.ecommerce.inventoryservice.exception.InsufficientStockException;
 import com.ecommerce.inventoryservice.exception.ProductNotFoundException;
 import com.ecommerce.inventoryservice.model.Product;
 import com.ecommerce.inventoryservice.repository.ProductRepository;
+import com.ecommerce.inventoryservice.stock.StockSnapshotService;
+import jakarta.persistence.EntityManagerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +34,15 @@ public class InventoryService {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private StockSnapshotService stockSnapshotService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Transactional
     public ProductResponse createProduct(ProductRequest request) {
         logger.info("Creating new product with SKU: {}", request.getSku());
@@ -42,17 +61,49 @@ public class InventoryService {
 
         Product savedProduct = productRepository.save(product);
         logger.info("Product created successfully with ID: {}", savedProduct.getId());
-        
-        return ProductResponse.fromEntity(savedProduct);
+
+        ProductResponse response = ProductResponse.fromEntity(savedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.created(response));
+        return response;
     }
 
+    /**
+     * The product usually comes from the second-level cache, its stock level from the
+     * stock snapshot: the cached entry only changes with the product's own writes here.
+     */
+    @Transactional(readOnly = true)
     public ProductResponse getProductById(Long id) {
         logger.info("Fetching product with ID: {}", id);
-        Product product = productRepository.findById(id)
+        Product product = findCacheable(id)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + id));
+        ProductResponse response = ProductResponse.fromEntity(product);
+        Integer stockQuantity = stockSnapshotService.getStockQuantity(id);
+        if (stockQuantity != null) {
+            response.setStockQuantity(stockQuantity);
+        }
+        return response;
+    }
+
+    /**
+     * Entity tag of a product: from the second-level cache if the product is already
+     * there, otherwise from a version query rather than loading it.
+     */
+    @Transactional(readOnly = true)
+    public String getProductETag(Long id) {
+        Optional<Long> version = entityManagerFactory.getCache().contains(Product.class, id)
+                ? findCacheable(id).map(Product::getVersion)
+                : productRepository.findVersionById(id);
+        return version
+                .map(v -> ProductResponse.eTag(id, v))
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + id));
-        return ProductResponse.fromEntity(product);
     }
 
+    @Transactional(readOnly = true)
+    public String getAllProductsETag() {
+        return productRepository.findCatalogVersion().toETag();
+    }
+
+    @Transactional(readOnly = true)
     public List<ProductResponse> getAllProducts() {
         logger.info("Fetching all products");
         return productRepository.findAll().stream()
@@ -60,11 +111,21 @@ public class InventoryService {
                 .collect(Collectors.toList());
     }
 
-    public List<ProductResponse> getActiveProducts() {
-        logger.info("Fetching all active products");
-        return productRepository.findByActiveTrue().stream()
+    @Transactional(readOnly = true)
+    public ProductPage getProductListing(ProductListingCriteria criteria) {
+        logger.info("Fetching product listing sorted by {}", criteria.getSortField());
+        criteria.validate();
+
+        List<ProductResponse> products = productRepository.findListingPage(criteria).stream()
                 .map(ProductResponse::fromEntity)
                 .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (products.size() > criteria.getLimit()) {
+            products = products.subList(0, criteria.getLimit());
+            nextCursor = criteria.cursorAfter(products.get(products.size() - 1));
+        }
+        return new ProductPage(products, nextCursor);
     }
 
     @Transactional
@@ -87,10 +148,12 @@ public class InventoryService {
         product.setStockQuantity(request.getStockQuantity());
         product.setActive(request.getActive());
 
-        Product updatedProduct = productRepository.save(product);
+        Product updatedProduct = productRepository.saveAndFlush(product);
         logger.info("Product updated successfully with ID: {}", updatedProduct.getId());
-        
-        return ProductResponse.fromEntity(updatedProduct);
+
+        ProductResponse response = ProductResponse.fromEntity(updatedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(response));
+        return response;
     }
 
     @Transactional
@@ -102,6 +165,7 @@ public class InventoryService {
         
         productRepository.delete(product);
         logger.info("Product deleted successfully with ID: {}", id);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
     }
 
     @Transactional
@@ -112,10 +176,13 @@ public class InventoryService {
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + productId));
 
         product.setStockQuantity(product.getStockQuantity() + quantity);
-        Product updatedProduct = productRepository.save(product);
+        // Flushed so the event carries the incremented version
+        Product updatedProduct = productRepository.saveAndFlush(product);
         
         logger.info("Stock added successfully. New quantity: {}", updatedProduct.getStockQuantity());
-        return ProductResponse.fromEntity(updatedProduct);
+        ProductResponse response = ProductResponse.fromEntity(updatedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.stockChanged(response));
+        return response;
     }
 
     @Transactional
@@ -133,20 +200,38 @@ public class InventoryService {
         }
 
         product.setStockQuantity(product.getStockQuantity() - quantity);
-        Product updatedProduct = productRepository.save(product);
+        // Flushed so the event carries the incremented version
+        Product updatedProduct = productRepository.saveAndFlush(product);
         
         logger.info("Stock reduced successfully. New quantity: {}", updatedProduct.getStockQuantity());
-        return ProductResponse.fromEntity(updatedProduct);
+        ProductResponse response = ProductResponse.fromEntity(updatedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.stockChanged(response));
+        return response;
     }
 
     public boolean checkStock(Long productId, Integer quantity) {
         logger.info("Checking stock for product ID: {} with quantity: {}", productId, quantity);
         
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + productId));
+        Integer stockQuantity = stockSnapshotService.getStockQuantity(productId);
+        if (stockQuantity == null) {
+            throw new ProductNotFoundException("Product not found with ID: " + productId);
+        }
 
-        boolean hasStock = product.getStockQuantity() >= quantity;
+        boolean hasStock = stockQuantity >= quantity;
         logger.info("Stock check result: {}", hasStock);
         return hasStock;
     }
+
+    public StockCheckResponse checkStock(StockCheckRequest request) {
+        logger.info("Checking stock for {} items", request.getItems().size());
+        return stockSnapshotService.checkStock(request.getItems());
+    }
+
+    /**
+     * A cache miss loads from the primary: a row read from a lagging replica would stay
+     * in the cache until it expires.
+     */
+    private Optional<Product> findCacheable(Long id) {
+        return ReadWriteRoutingDataSource.onPrimary(() -> productRepository.findById(id));
+    }
 }
@@ -0,0 +1,50 @@
+package com.ecommerce.inventoryservice.service;
+
+import com.ecommerce.inventoryservice.dto.ProductResponse;
+import com.ecommerce.inventoryservice.exception.ProductNotFoundException;
+import com.ecommerce.inventoryservice.repository.ReactiveProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking product reads over R2DBC. A request holds neither a servlet thread nor a
+ * database connection while it waits, and rows are fetched as the client consumes them.
+ */
+@Service
+public class ReactiveInventoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveInventoryService.class);
+
+    @Autowired
+    private ReactiveProductRepository reactiveProductRepository;
+
+    public Mono<ProductResponse> getProductById(Long id) {
+        logger.debug("Reactive fetch of product with ID: {}", id);
+        return reactiveProductRepository.findById(id)
+                .map(ProductResponse::fromRecord)
+                .switchIfEmpty(Mono.error(() -> new ProductNotFoundException("Product not found with ID: " + id)));
+    }
+
+    public Flux<ProductResponse> getAllProducts() {
+        logger.debug("Reactive fetch of all products");
+        return reactiveProductRepository.findAll()
+                .map(ProductResponse::fromRecord);
+    }
+
+    public Flux<ProductResponse> getActiveProducts() {
+        logger.debug("Reactive fetch of active products");
+        return reactiveProductRepository.findByActiveTrue()
+                .map(ProductResponse::fromRecord);
+    }
+
+    public Mono<Boolean> checkStock(Long productId, Integer quantity) {
+        logger.debug("Reactive stock check for product ID: {} with quantity: {}", productId, quantity);
+        return reactiveProductRepository.findStockQuantityById(productId)
+                .map(stockQuantity -> stockQuantity >= quantity)
+                .switchIfEmpty(Mono.error(() -> new ProductNotFoundException("Product not found with ID: " + productId)));
+    }
+}
@@ -0,0 +1,237 @@
+package com.ecommerce.inventoryservice.stock;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Stock level per product id in an open-addressing {@code long -> int} table, so a
+ * lookup costs a few array reads and no boxing.
+ *
+ * Every entry carries the product version it was taken from and only a newer version
+ * replaces it. Updates may therefore arrive in any order: a stale one, whether from the
+ * initial load or from a listener that lost a race, is dropped. Removal leaves an entry
+ * with an unbeatable version behind, so a product cannot come back once deleted.
+ *
+ * Readers never block: they read optimistically and retry under the read lock only if
+ * a writer got in between.
+ */
+public class StockSnapshot {
+
+    /** Quantity reported for products the snapshot does not know, or knows to be deleted. */
+    public static final int UNKNOWN = -1;
+
+    private static final long FREE = 0;
+    private static final long REMOVED_VERSION = Long.MAX_VALUE;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final StampedLock lock = new StampedLock();
+
+    private Table table = new Table(MIN_CAPACITY);
+    private int size;
+
+    /**
+     * Records {@code quantity} for a product unless the snapshot already holds the same
+     * or a newer version of it.
+     *
+     * @return whether the snapshot changed
+     */
+    public boolean put(long productId, int quantity, long version) {
+        if (productId == FREE) {
+            throw new IllegalArgumentException("Product id must not be " + FREE);
+        }
+        long stamp = lock.writeLock();
+        try {
+            return store(productId, quantity, version);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Applies several updates under one write lock, each with the same rules as
+     * {@link #put}.
+     *
+     * @return how many of them changed the snapshot
+     */
+    public int putAll(long[] productIds, int[] quantities, long[] versions) {
+        for (long productId : productIds) {
+            if (productId == FREE) {
+                throw new IllegalArgumentException("Product id must not be " + FREE);
+            }
+        }
+        long stamp = lock.writeLock();
+        try {
+            int changed = 0;
+            for (int i = 0; i < productIds.length; i++) {
+                if (store(productIds[i], quantities[i], versions[i])) {
+                    changed++;
+                }
+            }
+            return changed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Marks a product as deleted; later updates for it are ignored.
+     */
+    public void remove(long productId) {
+        long stamp = lock.writeLock();
+        try {
+            store(productId, UNKNOWN, REMOVED_VERSION);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return the product's stock level, or {@link #UNKNOWN}
+     */
+    public int quantity(long productId) {
+        long stamp = lock.tryOptimisticRead();
+        int quantity = stamp == 0 ? UNKNOWN : table.quantity(productId);
+        if (stamp != 0 && lock.validate(stamp)) {
+            return quantity;
+        }
+        stamp = lock.readLock();
+        try {
+            return table.quantity(productId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Looks up several products against one consistent view of the snapshot.
+     *
+     * @param quantities receives the stock level of {@code productIds[i]} at index {@code i},
+     *                   or {@link #UNKNOWN}
+     */
+    public void quantities(long[] productIds, int[] quantities) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Table current = table;
+            for (int i = 0; i < productIds.length; i++) {
+                quantities[i] = current.quantity(productIds[i]);
+            }
+            if (lock.validate(stamp)) {
+                return;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            for (int i = 0; i < productIds.length; i++) {
+                quantities[i] = table.quantity(productIds[i]);
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public Stats stats() {
+        long stamp = lock.readLock();
+        try {
+            int removed = 0;
+            for (int slot = 0; slot < table.keys.length; slot++) {
+                if (table.keys[slot] != FREE && table.versions[slot] == REMOVED_VERSION) {
+                    removed++;
+                }
+            }
+            // One long key, one int quantity and one long version per slot
+            long estimatedBytes = (long) table.keys.length * (Long.BYTES + Integer.BYTES + Long.BYTES);
+            return new Stats(size - removed, removed, table.keys.length, estimatedBytes);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private boolean store(long productId, int quantity, long version) {
+        int slot = table.slotOf(productId);
+        if (table.keys[slot] == productId) {
+            if (table.versions[slot] >= version) {
+                return false;
+            }
+            table.quantities[slot] = quantity;
+            table.versions[slot] = version;
+            return true;
+        }
+        // Keep the load factor at or below one half so probe chains stay short
+        if ((size + 1) * 2 > table.keys.length) {
+            table = table.grow();
+            slot = table.slotOf(productId);
+        }
+        table.keys[slot] = productId;
+        table.quantities[slot] = quantity;
+        table.versions[slot] = version;
+        size++;
+        return true;
+    }
+
+    /**
+     * Linear-probing table. A reader that races a writer may see a half-written slot,
+     * which the stamp validation then discards; the probe limit keeps such a reader
+     * from spinning.
+     */
+    private static final class Table {
+
+        final long[] keys;
+        final int[] quantities;
+        final long[] versions;
+        final int mask;
+
+        Table(int capacity) {
+            keys = new long[capacity];
+            quantities = new int[capacity];
+            versions = new long[capacity];
+            mask = capacity - 1;
+        }
+
+        /**
+         * @return the slot holding {@code productId}, or the free slot where it belongs
+         */
+        int slotOf(long productId) {
+            int slot = hash(productId) & mask;
+            while (keys[slot] != FREE && keys[slot] != productId) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        int quantity(long productId) {
+            int slot = hash(productId) & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                long key = keys[slot];
+                if (key == productId) {
+                    return quantities[slot];
+                }
+                if (key == FREE) {
+                    return UNKNOWN;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return UNKNOWN;
+        }
+
+        Table grow() {
+            Table grown = new Table(keys.length * 2);
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != FREE) {
+                    int target = grown.slotOf(keys[slot]);
+                    grown.keys[target] = keys[slot];
+                    grown.quantities[target] = quantities[slot];
+                    grown.versions[target] = versions[slot];
+                }
+            }
+            return grown;
+        }
+
+        private static int hash(long productId) {
+            // Sequential ids would otherwise fill runs of neighbouring slots
+            long h = productId * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    public record Stats(int products, int removed, int capacity, long estimatedBytes) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.ecommerce.inventoryservice.stock;
+
+import com.ecommerce.inventoryservice.dto.ProductResponse;
+import com.ecommerce.inventoryservice.dto.StockCheckItemRequest;
+import com.ecommerce.inventoryservice.dto.StockCheckItemResponse;
+import com.ecommerce.inventoryservice.dto.StockCheckResponse;
+import com.ecommerce.inventoryservice.dto.StockLevel;
+import com.ecommerce.inventoryservice.event.ProductChangedEvent;
+import com.ecommerce.inventoryservice.event.StockLevelsChangedEvent;
+import com.ecommerce.inventoryservice.model.Product;
+import com.ecommerce.inventoryservice.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers stock availability from a {@link StockSnapshot}: loaded when the application is
+ * ready, then refreshed after every committed product or stock change (bulk stock syncs
+ * arrive a chunk at a time). Until the load completes, checks fall back to the database.
+ */
+@Service
+public class StockSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockSnapshotService.class);
+
+    private final StockSnapshot snapshot = new StockSnapshot();
+
+    private volatile boolean ready;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Value("${stock.snapshot.load-batch-size:10000}")
+    private int loadBatchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshot() {
+        long started = System.nanoTime();
+        long lastId = 0;
+        int loaded = 0;
+
+        // Changes committed meanwhile are applied by the listener; versions decide which copy wins
+        List<StockLevel> batch;
+        do {
+            batch = productRepository.findStockLevelsAfter(lastId, PageRequest.ofSize(loadBatchSize));
+            for (StockLevel level : batch) {
+                snapshot.put(level.getProductId(), level.getStockQuantity(), level.getVersion());
+                lastId = level.getProductId();
+            }
+            loaded += batch.size();
+        } while (batch.size() == loadBatchSize);
+
+        ready = true;
+        logger.info("Stock snapshot loaded: {} products in {} ms",
+                loaded, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getChangeType() == ProductChangedEvent.ChangeType.DELETED) {
+            snapshot.remove(event.getProductId());
+        } else {
+            ProductResponse product = event.getProduct();
+            snapshot.put(product.getId(), product.getStockQuantity(), product.getVersion());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockLevelsChanged(StockLevelsChangedEvent event) {
+        List<StockLevel> levels = event.getStockLevels();
+        long[] productIds = new long[levels.size()];
+        int[] quantities = new int[levels.size()];
+        long[] versions = new long[levels.size()];
+        for (int i = 0; i < productIds.length; i++) {
+            StockLevel level = levels.get(i);
+            productIds[i] = level.getProductId();
+            quantities[i] = level.getStockQuantity();
+            versions[i] = level.getVersion();
+        }
+        snapshot.putAll(productIds, quantities, versions);
+    }
+
+    /**
+     * @return the product's stock level, or {@code null} if there is no such product
+     */
+    public Integer getStockQuantity(Long productId) {
+        if (!ready) {
+            // Not findById: a cached product's stock level may be older than the row
+            return productRepository.findStockQuantityById(productId).orElse(null);
+        }
+        int quantity = snapshot.quantity(productId);
+        return quantity == StockSnapshot.UNKNOWN ? null : quantity;
+    }
+
+    /**
+     * Checks every line against the same view of stock. Lines for the same product are
+     * added up, so a cart holding a product twice needs stock for both.
+     */
+    public StockCheckResponse checkStock(List<StockCheckItemRequest> items) {
+        long[] productIds = new long[items.size()];
+        for (int i = 0; i < productIds.length; i++) {
+            productIds[i] = items.get(i).getProductId();
+        }
+        int[] quantities = new int[productIds.length];
+        if (ready) {
+            snapshot.quantities(productIds, quantities);
+        } else {
+            loadQuantities(productIds, quantities);
+        }
+
+        Map<Long, Integer> requested = new HashMap<>();
+        for (StockCheckItemRequest item : items) {
+            requested.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+
+        List<StockCheckItemResponse> results = new ArrayList<>(items.size());
+        for (int i = 0; i < productIds.length; i++) {
+            StockCheckItemRequest item = items.get(i);
+            boolean found = quantities[i] != StockSnapshot.UNKNOWN;
+            boolean available = found && quantities[i] >= requested.get(item.getProductId());
+            results.add(new StockCheckItemResponse(item.getProductId(), item.getQuantity(), found, available));
+        }
+        return new StockCheckResponse(results);
+    }
+
+    private void loadQuantities(long[] productIds, int[] quantities) {
+        List<Long> ids = new ArrayList<>(productIds.length);
+        for (long productId : productIds) {
+            ids.add(productId);
+        }
+        Map<Long, Integer> stock = new HashMap<>();
+        for (Product product : productRepository.findAllById(ids)) {
+            stock.put(product.getId(), product.getStockQuantity());
+        }
+        for (int i = 0; i < productIds.length; i++) {
+            quantities[i] = stock.getOrDefault(productIds[i], StockSnapshot.UNKNOWN);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public StockSnapshot.Stats stats() {
+        return snapshot.stats();
+    }
+}
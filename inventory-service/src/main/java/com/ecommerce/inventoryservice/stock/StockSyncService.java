@@ -0,0 +1,185 @@
+package com.ecommerce.inventoryservice.stock;
+
+import com.ecommerce.inventoryservice.cache.ProductCacheInvalidator;
+import com.ecommerce.inventoryservice.dto.StockLevel;
+import com.ecommerce.inventoryservice.dto.StockSyncItemRequest;
+import com.ecommerce.inventoryservice.dto.StockSyncItemResponse;
+import com.ecommerce.inventoryservice.dto.StockSyncRequest;
+import com.ecommerce.inventoryservice.dto.StockSyncResponse;
+import com.ecommerce.inventoryservice.event.StockLevelsChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies warehouse stock counts and deltas for many SKUs at once.
+ *
+ * Adjustments are sorted by SKU and applied in chunked transactions, one batched
+ * {@code UPDATE} per chunk. Every transaction therefore locks rows in the same order,
+ * so two concurrent syncs cannot deadlock on each other. An adjustment that would take
+ * stock below zero, or beyond what the column holds, is rejected by the statement itself
+ * and leaves the row untouched instead of failing its whole chunk.
+ * The stock snapshot is refreshed once per committed chunk.
+ */
+@Service
+public class StockSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockSyncService.class);
+
+    /**
+     * {@code stock_quantity * factor + amount}: factor 0 sets an absolute quantity,
+     * factor 1 adds a delta, so both kinds share one statement and one lock order. The
+     * guard is computed as BIGINT so a delta that overflows the column is not applied
+     * rather than raising "integer out of range".
+     */
+    private static final String ADJUST_SQL = "UPDATE products SET stock_quantity = stock_quantity * ? + ?, "
+            + "updated_at = ?, version = version + 1 WHERE sku = ? "
+            + "AND CAST(stock_quantity AS BIGINT) * ? + ? BETWEEN 0 AND " + Integer.MAX_VALUE;
+
+    private static final String LEVELS_SQL = "SELECT id, sku, stock_quantity, version FROM products WHERE sku IN (:skus)";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProductCacheInvalidator productCacheInvalidator;
+
+    @Value("${stock.sync.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * @return one result per requested item, in request order
+     */
+    public StockSyncResponse sync(StockSyncRequest request) {
+        List<StockSyncItemRequest> items = request.getItems();
+        long started = System.nanoTime();
+        Map<String, StockSyncItemResponse> results = new HashMap<>();
+
+        List<StockSyncItemRequest> valid = new ArrayList<>(items.size());
+        Set<String> seen = new HashSet<>();
+        Set<String> duplicates = new HashSet<>();
+        for (StockSyncItemRequest item : items) {
+            if (!seen.add(item.getSku())) {
+                duplicates.add(item.getSku());
+            }
+        }
+        for (StockSyncItemRequest item : items) {
+            if (duplicates.contains(item.getSku())) {
+                results.put(item.getSku(), new StockSyncItemResponse(item.getSku(), null,
+                        StockSyncItemResponse.Status.REJECTED, null, "SKU appears more than once in the request"));
+            } else if (item.getType() == StockSyncItemRequest.Type.ABSOLUTE && item.getQuantity() < 0) {
+                results.put(item.getSku(), new StockSyncItemResponse(item.getSku(), null,
+                        StockSyncItemResponse.Status.REJECTED, null, "Absolute quantity must not be negative"));
+            } else {
+                valid.add(item);
+            }
+        }
+        valid.sort(Comparator.comparing(StockSyncItemRequest::getSku));
+
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<StockSyncItemRequest> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+            try {
+                results.putAll(transactionTemplate.execute(status -> applyChunk(chunk)));
+            } catch (DataAccessException e) {
+                String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                logger.warn("Stock sync chunk of {} SKUs ({} .. {}) rolled back: {}",
+                        chunk.size(), chunk.get(0).getSku(), chunk.get(chunk.size() - 1).getSku(), cause);
+                for (StockSyncItemRequest item : chunk) {
+                    results.put(item.getSku(), new StockSyncItemResponse(item.getSku(), null,
+                            StockSyncItemResponse.Status.FAILED, null, "Chunk rolled back: " + cause));
+                }
+            }
+        }
+
+        List<StockSyncItemResponse> ordered = new ArrayList<>(items.size());
+        Set<String> reported = new HashSet<>();
+        for (StockSyncItemRequest item : items) {
+            if (reported.add(item.getSku())) {
+                ordered.add(results.get(item.getSku()));
+            }
+        }
+        StockSyncResponse response = new StockSyncResponse(ordered);
+        logger.info("Stock sync of {} items: {} applied, {} rejected, {} not found, {} failed in {} ms",
+                items.size(), response.getApplied(), response.getRejected(), response.getNotFound(),
+                response.getFailed(), (System.nanoTime() - started) / 1_000_000);
+        return response;
+    }
+
+    private Map<String, StockSyncItemResponse> applyChunk(List<StockSyncItemRequest> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.getJdbcTemplate().batchUpdate(ADJUST_SQL, chunk, chunk.size(),
+                (statement, item) -> {
+                    int factor = item.getType() == StockSyncItemRequest.Type.ABSOLUTE ? 0 : 1;
+                    statement.setInt(1, factor);
+                    statement.setInt(2, item.getQuantity());
+                    statement.setTimestamp(3, now);
+                    statement.setString(4, item.getSku());
+                    statement.setInt(5, factor);
+                    statement.setInt(6, item.getQuantity());
+                });
+
+        // Read back in the same transaction: ids and versions for the snapshot, and the
+        // current quantity of rejected rows
+        Map<String, StockLevel> levels = new HashMap<>();
+        List<String> skus = chunk.stream().map(StockSyncItemRequest::getSku).toList();
+        jdbcTemplate.query(LEVELS_SQL, new MapSqlParameterSource("skus", skus), row -> {
+            levels.put(row.getString("sku"), new StockLevel(row.getLong("id"), row.getInt("stock_quantity"),
+                    row.getLong("version")));
+        });
+
+        Map<String, StockSyncItemResponse> results = new HashMap<>();
+        List<StockLevel> changed = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            StockSyncItemRequest item = chunk.get(i);
+            StockLevel level = levels.get(item.getSku());
+            int count = counts[0][i];
+            if (level == null) {
+                results.put(item.getSku(), new StockSyncItemResponse(item.getSku(), null,
+                        StockSyncItemResponse.Status.NOT_FOUND, null, "Product not found with SKU: " + item.getSku()));
+            } else if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                changed.add(level);
+                results.put(item.getSku(), new StockSyncItemResponse(item.getSku(), level.getProductId(),
+                        StockSyncItemResponse.Status.APPLIED, level.getStockQuantity(), null));
+            } else if ((long) level.getStockQuantity() + item.getQuantity() > Integer.MAX_VALUE) {
+                results.put(item.getSku(), new StockSyncItemResponse(item.getSku(), level.getProductId(),
+                        StockSyncItemResponse.Status.REJECTED, level.getStockQuantity(),
+                        "Stock would exceed " + Integer.MAX_VALUE + ". Available: " + level.getStockQuantity()
+                                + ", Delta: " + item.getQuantity()));
+            } else {
+                results.put(item.getSku(), new StockSyncItemResponse(item.getSku(), level.getProductId(),
+                        StockSyncItemResponse.Status.REJECTED, level.getStockQuantity(),
+                        "Insufficient stock. Available: " + level.getStockQuantity() + ", Delta: " + item.getQuantity()));
+            }
+        }
+        if (!changed.isEmpty()) {
+            productCacheInvalidator.productsWritten(changed.stream().map(StockLevel::getProductId).toList());
+            eventPublisher.publishEvent(new StockLevelsChangedEvent(changed));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,119 @@
+package com.ecommerce.inventoryservice.catalog;
+
+import com.ecommerce.inventoryservice.dto.ProductRequest;
+import com.ecommerce.inventoryservice.exception.InvalidImportRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductRowReaderTest {
+
+    @Test
+    void mapsHeaderColumnsInAnyOrderAndSpelling() throws IOException {
+        List<ProductRowReader.Row> rows = readCsv("\uFEFFStock_Quantity, sku ,Name,price\n5,S1,Widget,9.99\n");
+
+        assertThat(rows).hasSize(1);
+        ProductRowReader.Row row = rows.get(0);
+        assertThat(row.number()).isEqualTo(1);
+        assertThat(row.parseError()).isNull();
+        ProductRequest request = row.request();
+        assertThat(request.getSku()).isEqualTo("S1");
+        assertThat(request.getName()).isEqualTo("Widget");
+        assertThat(request.getDescription()).isNull();
+        assertThat(request.getPrice()).isEqualByComparingTo(new BigDecimal("9.99"));
+        assertThat(request.getStockQuantity()).isEqualTo(5);
+        assertThat(request.getActive()).isTrue();
+    }
+
+    @Test
+    void readsQuotedFields() throws IOException {
+        List<ProductRowReader.Row> rows = readCsv("sku,name,description,price,stockQuantity\r\n"
+                + "S1,\"Widget, large\",\"Says \"\"hi\"\"\nand more\",1.50,3\r\n");
+
+        assertThat(rows).hasSize(1);
+        ProductRequest request = rows.get(0).request();
+        assertThat(request.getName()).isEqualTo("Widget, large");
+        assertThat(request.getDescription()).isEqualTo("Says \"hi\"\nand more");
+        assertThat(request.getStockQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    void skipsBlankLinesButCountsThem() throws IOException {
+        List<ProductRowReader.Row> rows = readCsv("sku,name,price,stock_quantity\nS1,A,1,1\n\nS2,B,2,2");
+
+        assertThat(rows).extracting(ProductRowReader.Row::number).containsExactly(1L, 3L);
+        assertThat(rows.get(1).request().getSku()).isEqualTo("S2");
+    }
+
+    @Test
+    void readsOptionalAndMissingColumns() throws IOException {
+        List<ProductRowReader.Row> rows = readCsv("sku,name,price,stock_quantity,active\nS1,A,1,1,false\nS2,,1\n");
+
+        assertThat(rows.get(0).request().getActive()).isFalse();
+        ProductRequest shortRow = rows.get(1).request();
+        assertThat(shortRow.getName()).isNull();
+        assertThat(shortRow.getStockQuantity()).isNull();
+        assertThat(shortRow.getActive()).isTrue();
+    }
+
+    @Test
+    void reportsUnparsableNumbersAndCarriesOn() throws IOException {
+        List<ProductRowReader.Row> rows = readCsv("sku,name,price,stock_quantity\nS1,A,abc,1\nS2,B,1,1.5\nS3,C,1,1\n");
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).request()).isNull();
+        assertThat(rows.get(0).parseError()).isEqualTo("Invalid price 'abc'");
+        assertThat(rows.get(1).parseError()).isEqualTo("Invalid stock quantity '1.5'");
+        assertThat(rows.get(2).request().getSku()).isEqualTo("S3");
+    }
+
+    @Test
+    void rejectsUnusableInput() {
+        assertThatThrownBy(() -> readCsv(""))
+                .isInstanceOf(InvalidImportRequestException.class)
+                .hasMessageContaining("header row is required");
+        assertThatThrownBy(() -> readCsv("sku,name,price\nS1,A,1\n"))
+                .isInstanceOf(InvalidImportRequestException.class)
+                .hasMessageContaining("'stockquantity'");
+        assertThatThrownBy(() -> readCsv("sku,name,price,stock_quantity\nS1,\"A,1,1\n"))
+                .isInstanceOf(InvalidImportRequestException.class)
+                .hasMessageContaining("row 1");
+    }
+
+    @Test
+    void readsNdjsonLines() throws IOException {
+        ProductRowReader reader = ProductRowReader.ndjson(new BufferedReader(new StringReader(
+                "{\"sku\":\"S1\",\"name\":\"A\",\"price\":1.5,\"stockQuantity\":2}\n\n{not json\n")), new ObjectMapper());
+
+        ProductRowReader.Row first = reader.next();
+        assertThat(first.number()).isEqualTo(1);
+        assertThat(first.request().getSku()).isEqualTo("S1");
+        assertThat(first.request().getStockQuantity()).isEqualTo(2);
+
+        ProductRowReader.Row malformed = reader.next();
+        assertThat(malformed.number()).isEqualTo(3);
+        assertThat(malformed.request()).isNull();
+        assertThat(malformed.parseError()).startsWith("Malformed JSON");
+
+        assertThat(reader.next()).isNull();
+    }
+
+    private static List<ProductRowReader.Row> readCsv(String csv) throws IOException {
+        ProductRowReader reader = ProductRowReader.csv(new BufferedReader(new StringReader(csv)));
+        List<ProductRowReader.Row> rows = new ArrayList<>();
+        ProductRowReader.Row row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
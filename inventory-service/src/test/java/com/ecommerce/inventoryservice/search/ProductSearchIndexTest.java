@@ -0,0 +1,116 @@
+package com.ecommerce.inventoryservice.search;
+
+import org.junit.jupiter.api.Test;
+
+import static com.ecommerce.inventoryservice.search.ProductSearchIndex.DESCRIPTION_WEIGHT;
+import static com.ecommerce.inventoryservice.search.ProductSearchIndex.NAME_WEIGHT;
+import static com.ecommerce.inventoryservice.search.ProductSearchIndex.SKU_WEIGHT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private final ProductSearchIndex index = new ProductSearchIndex();
+
+    @Test
+    void tokenizesOnAnythingButLettersAndDigits() {
+        assertThat(ProductSearchIndex.tokenize("Blue-Widget 2000, XL")).containsExactly("blue", "widget", "2000", "xl");
+        assertThat(ProductSearchIndex.tokenize("  --  ")).isEmpty();
+        assertThat(ProductSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void scoresTheBestFieldPerTokenDoubledForExactMatches() {
+        index.put(1L, "SKU-100", "Blue Widget", "A sturdy widget", true);
+
+        assertThat(index.search("widget", 10, false))
+                .containsExactly(new ProductSearchIndex.Hit(1L, 2 * NAME_WEIGHT));
+        assertThat(index.search("100", 10, false))
+                .containsExactly(new ProductSearchIndex.Hit(1L, 2 * SKU_WEIGHT));
+        assertThat(index.search("BLUE wid", 10, false))
+                .containsExactly(new ProductSearchIndex.Hit(1L, 2 * NAME_WEIGHT + NAME_WEIGHT));
+        assertThat(index.search("sturdy", 10, false))
+                .containsExactly(new ProductSearchIndex.Hit(1L, 2 * DESCRIPTION_WEIGHT));
+    }
+
+    @Test
+    void requiresEveryToken() {
+        index.put(1L, "SKU-1", "Blue Widget", null, true);
+
+        assertThat(index.search("blue gadget", 10, false)).isEmpty();
+        assertThat(index.search("", 10, false)).isEmpty();
+        assertThat(index.search("blue", 0, false)).isEmpty();
+    }
+
+    @Test
+    void ranksByScoreThenByAge() {
+        index.put(1L, "SKU-1", "Gadget", "Fits any widget", true);
+        index.put(2L, "SKU-2", "Widget", null, true);
+        index.put(3L, "SKU-3", "Widget", null, true);
+
+        assertThat(index.search("widget", 10, false)).extracting(ProductSearchIndex.Hit::productId)
+                .containsExactly(2L, 3L, 1L);
+        assertThat(index.search("widget", 2, false)).extracting(ProductSearchIndex.Hit::productId)
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    void skipsInactiveProductsWhenAskedTo() {
+        index.put(1L, "SKU-1", "Widget", null, false);
+        index.put(2L, "SKU-2", "Widget", null, true);
+
+        assertThat(index.search("widget", 10, true)).extracting(ProductSearchIndex.Hit::productId)
+                .containsExactly(2L);
+        assertThat(index.search("widget", 10, false)).extracting(ProductSearchIndex.Hit::productId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void replacesAndRemovesProducts() {
+        index.put(1L, "SKU-1", "Widget", null, true);
+        index.put(1L, "SKU-1", "Gadget", null, true);
+
+        assertThat(index.search("widget", 10, false)).isEmpty();
+        assertThat(index.search("gadget", 10, false)).extracting(ProductSearchIndex.Hit::productId)
+                .containsExactly(1L);
+        assertThat(index.stats().products()).isEqualTo(1);
+        assertThat(index.stats().tombstones()).isEqualTo(1);
+
+        index.remove(1L);
+
+        assertThat(index.search("gadget", 10, false)).isEmpty();
+        assertThat(index.stats().products()).isZero();
+    }
+
+    @Test
+    void compactionDropsTombstonesAndKeepsResults() {
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, "SKU-" + id, "Widget " + id, null, id % 2 == 0);
+        }
+        index.put(3L, "SKU-3", "Gadget 3", null, true);
+        index.remove(4L);
+
+        index.compact();
+
+        ProductSearchIndex.Stats stats = index.stats();
+        assertThat(stats.products()).isEqualTo(4);
+        assertThat(stats.tombstones()).isZero();
+        assertThat(index.search("widget", 10, false)).extracting(ProductSearchIndex.Hit::productId)
+                .containsExactly(1L, 2L, 5L);
+        assertThat(index.search("widget", 10, true)).extracting(ProductSearchIndex.Hit::productId)
+                .containsExactly(2L);
+        assertThat(index.search("gadget", 10, true)).extracting(ProductSearchIndex.Hit::productId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    void probesARareTokenAgainstLongPostings() {
+        for (long id = 1; id <= 500; id++) {
+            index.put(id, "SKU-" + id, "Widget", id == 250 ? "limited edition" : null, true);
+        }
+
+        assertThat(index.search("widget limited", 10, false))
+                .containsExactly(new ProductSearchIndex.Hit(250L, 2 * NAME_WEIGHT + 2 * DESCRIPTION_WEIGHT));
+        assertThat(index.search("widget lim", 10, false))
+                .containsExactly(new ProductSearchIndex.Hit(250L, 2 * NAME_WEIGHT + DESCRIPTION_WEIGHT));
+    }
+}
@@ -0,0 +1,83 @@
+package com.ecommerce.inventoryservice.stock;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StockSnapshotTest {
+
+    private final StockSnapshot snapshot = new StockSnapshot();
+
+    @Test
+    void reportsUnknownProducts() {
+        assertThat(snapshot.quantity(42L)).isEqualTo(StockSnapshot.UNKNOWN);
+    }
+
+    @Test
+    void keepsTheNewestVersion() {
+        assertThat(snapshot.put(1L, 10, 3)).isTrue();
+        assertThat(snapshot.put(1L, 7, 2)).isFalse();
+        assertThat(snapshot.put(1L, 8, 3)).isFalse();
+        assertThat(snapshot.quantity(1L)).isEqualTo(10);
+
+        assertThat(snapshot.put(1L, 5, 4)).isTrue();
+        assertThat(snapshot.quantity(1L)).isEqualTo(5);
+    }
+
+    @Test
+    void ignoresUpdatesAfterRemoval() {
+        snapshot.put(1L, 10, 1);
+        snapshot.remove(1L);
+
+        assertThat(snapshot.put(1L, 10, 2)).isFalse();
+        assertThat(snapshot.quantity(1L)).isEqualTo(StockSnapshot.UNKNOWN);
+
+        // A stale load arriving after the delete must not resurrect the product either
+        snapshot.remove(2L);
+        assertThat(snapshot.put(2L, 3, 1)).isFalse();
+        assertThat(snapshot.quantity(2L)).isEqualTo(StockSnapshot.UNKNOWN);
+
+        StockSnapshot.Stats stats = snapshot.stats();
+        assertThat(stats.products()).isZero();
+        assertThat(stats.removed()).isEqualTo(2);
+    }
+
+    @Test
+    void countsTheChangesOfABatch() {
+        snapshot.put(2L, 20, 5);
+
+        int changed = snapshot.putAll(new long[]{1L, 2L, 3L}, new int[]{1, 2, 3}, new long[]{1, 4, 1});
+
+        assertThat(changed).isEqualTo(2);
+        int[] quantities = new int[4];
+        snapshot.quantities(new long[]{1L, 2L, 3L, 4L}, quantities);
+        assertThat(quantities).containsExactly(1, 20, 3, StockSnapshot.UNKNOWN);
+    }
+
+    @Test
+    void rejectsTheReservedProductId() {
+        assertThatThrownBy(() -> snapshot.put(0L, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> snapshot.putAll(new long[]{1L, 0L}, new int[]{1, 1}, new long[]{1, 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // The batch is checked before anything is applied
+        assertThat(snapshot.quantity(1L)).isEqualTo(StockSnapshot.UNKNOWN);
+    }
+
+    @Test
+    void growsAndKeepsEveryEntry() {
+        int products = 10_000;
+        for (long id = 1; id <= products; id++) {
+            snapshot.put(id, (int) id % 100, 1);
+        }
+
+        for (long id = 1; id <= products; id++) {
+            assertThat(snapshot.quantity(id)).isEqualTo((int) id % 100);
+        }
+        assertThat(snapshot.quantity(products + 1)).isEqualTo(StockSnapshot.UNKNOWN);
+        StockSnapshot.Stats stats = snapshot.stats();
+        assertThat(stats.products()).isEqualTo(products);
+        assertThat(stats.capacity()).isGreaterThanOrEqualTo(2 * products);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ecommerce.loadharness;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for the Brevo transactional SMS API.
+ */
+public class BrevoStub implements AutoCloseable {
+
+    public static final String SEND_PATH = "/v3/transactionalSMS/send";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final FaultInjector faults;
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public BrevoStub(FaultInjector faults) throws IOException {
+        this.faults = faults;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext(SEND_PATH, this::handleSend);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public String sendUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + SEND_PATH;
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    private void handleSend(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        faults.delay();
+
+        if (faults.shouldFail()) {
+            failed.incrementAndGet();
+            respond(exchange, 500, "{\"code\":\"internal_error\",\"message\":\"Injected failure\"}");
+            return;
+        }
+        long messageId = sent.incrementAndGet();
+        respond(exchange, 201, "{\"messageId\":" + messageId + ",\"smsCount\":1}");
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,182 @@
+package com.ecommerce.loadharness;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Catalog read traffic from a large number of concurrent readers against either the
+ * blocking ({@code /api/inventory}) or the reactive ({@code /api/inventory/reactive})
+ * product endpoints of inventory-service.
+ *
+ * Each reader is an asynchronous request chain rather than a thread, so ten thousand
+ * readers cost the harness a handful of threads. Reader start-up is spread over the
+ * warm-up period. While the run lasts, the service's {@code /api/stats/connections}
+ * endpoint is polled to record the peak number of database connections in use.
+ */
+public class CatalogReadDriver {
+
+    public enum Operation {
+        LIST_ACTIVE, GET_PRODUCT, CHECK_STOCK
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final String productsUrl;
+    private final String statsUrl;
+    private final List<Long> productIds;
+    private final int readers;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final boolean reactive;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors());
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(executor)
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, LatencyStats> stats = new LinkedHashMap<>();
+    private final Map<String, Long> peakConnections = new LinkedHashMap<>();
+
+    private volatile long measureFrom;
+    private volatile long end;
+
+    public CatalogReadDriver(String inventoryUrl, List<Long> productIds, HarnessConfig config) {
+        this.reactive = config.readStack().equals("reactive");
+        this.productsUrl = inventoryUrl + (reactive ? "/api/inventory/reactive" : "/api/inventory") + "/products";
+        this.statsUrl = inventoryUrl + "/api/stats/connections";
+        this.productIds = productIds;
+        this.readers = config.readers();
+        this.warmupSeconds = config.warmupSeconds();
+        this.durationSeconds = config.durationSeconds();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new LatencyStats());
+        }
+    }
+
+    public LoadReport run() throws InterruptedException {
+        long start = System.nanoTime();
+        measureFrom = start + Duration.ofSeconds(warmupSeconds).toNanos();
+        end = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+
+        ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor();
+        poller.scheduleAtFixedRate(this::pollConnectionStats, 0, 250, TimeUnit.MILLISECONDS);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        CountDownLatch finished = new CountDownLatch(readers);
+        long rampNanos = Math.max(1, Duration.ofSeconds(warmupSeconds).toNanos() / 2);
+        for (int i = 0; i < readers; i++) {
+            long delay = rampNanos * i / readers;
+            scheduler.schedule(() -> next(finished), delay, TimeUnit.NANOSECONDS);
+        }
+
+        finished.await();
+        poller.shutdownNow();
+        poller.awaitTermination(5, TimeUnit.SECONDS);
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+
+        Map<String, LatencyStats> operations = new LinkedHashMap<>();
+        stats.forEach((operation, operationStats) -> operations.put(operation.name(), operationStats));
+        LoadReport report = new LoadReport(operations, durationSeconds, readers);
+        report.put("readStack", reactive ? "reactive" : "blocking");
+        synchronized (peakConnections) {
+            peakConnections.forEach(report::put);
+        }
+        return report;
+    }
+
+    /**
+     * Issues the reader's next request, or counts the reader down once the run is over.
+     */
+    private void next(CountDownLatch finished) {
+        if (System.nanoTime() >= end) {
+            finished.countDown();
+            return;
+        }
+        Operation operation = pick();
+        boolean measured = System.nanoTime() >= measureFrom;
+        long started = System.nanoTime();
+
+        client.sendAsync(request(operation), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    if (measured) {
+                        record(operation, response, failure, System.nanoTime() - started);
+                    }
+                    next(finished);
+                });
+    }
+
+    private Operation pick() {
+        int roll = ThreadLocalRandom.current().nextInt(10);
+        if (roll < 2) {
+            return Operation.LIST_ACTIVE;
+        }
+        return roll < 7 ? Operation.GET_PRODUCT : Operation.CHECK_STOCK;
+    }
+
+    private HttpRequest request(Operation operation) {
+        long productId = productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+        String url = switch (operation) {
+            case LIST_ACTIVE -> productsUrl + "/active";
+            case GET_PRODUCT -> productsUrl + "/" + productId;
+            case CHECK_STOCK -> productsUrl + "/" + productId + "/check-stock?quantity=1";
+        };
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", reactive && operation == Operation.LIST_ACTIVE
+                        ? "application/x-ndjson" : "application/json")
+                .GET()
+                .build();
+    }
+
+    private void record(Operation operation, HttpResponse<Void> response, Throwable failure, long latency) {
+        LatencyStats operationStats = stats.get(operation);
+        synchronized (operationStats) {
+            if (failure != null || response.statusCode() >= 500) {
+                operationStats.recordError();
+            } else if (response.statusCode() >= 400) {
+                operationStats.recordRejected();
+            } else {
+                operationStats.recordSuccess(latency);
+            }
+        }
+    }
+
+    private void pollConnectionStats() {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(statsUrl))
+                    .timeout(Duration.ofSeconds(2))
+                    .build();
+            JsonNode pools = objectMapper.readTree(
+                    client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+            for (String pool : List.of("primary", "replica", "r2dbc")) {
+                long active = pools.path(pool).path("active").asLong(0);
+                long pending = pools.path(pool).path("pending").asLong(0);
+                synchronized (peakConnections) {
+                    peakConnections.merge(pool + "PeakActiveConnections", active, Math::max);
+                    peakConnections.merge(pool + "PeakPendingAcquires", pending, Math::max);
+                }
+            }
+        } catch (Exception e) {
+            // The stats endpoint competes with the readers; a missed sample only lowers resolution
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.loadharness;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Injected latency and error rate of a stand-in.
+ */
+public class FaultInjector {
+
+    private final long latencyMs;
+    private final double errorRate;
+
+    public FaultInjector(long latencyMs, double errorRate) {
+        this.latencyMs = latencyMs;
+        this.errorRate = errorRate;
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public void delay() {
+        if (latencyMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean shouldFail() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    @Override
+    public String toString() {
+        return "latency=" + latencyMs + "ms, errorRate=" + errorRate;
+    }
+}
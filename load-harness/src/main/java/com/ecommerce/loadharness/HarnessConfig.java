@@ -0,0 +1,135 @@
+package com.ecommerce.loadharness;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Harness settings, given on the command line as {@code --key=value}.
+ *
+ * Every stand-in ({@code inventory}, {@code broker}, {@code smtp}, {@code brevo}) accepts
+ * {@code <name>.latency-ms} and {@code <name>.error-rate} to inject faults.
+ */
+public class HarnessConfig {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    public static HarnessConfig fromArgs(String[] args) {
+        HarnessConfig config = new HarnessConfig();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            config.values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return config;
+    }
+
+    /**
+     * @return a copy of this configuration with {@code key} set to {@code value}
+     */
+    public HarnessConfig with(String key, String value) {
+        HarnessConfig copy = new HarnessConfig();
+        copy.values.putAll(values);
+        copy.values.put(key, value);
+        return copy;
+    }
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return values.containsKey(key) ? Integer.parseInt(values.get(key)) : defaultValue;
+    }
+
+    public long getLong(String key, long defaultValue) {
+        return values.containsKey(key) ? Long.parseLong(values.get(key)) : defaultValue;
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        return values.containsKey(key) ? Double.parseDouble(values.get(key)) : defaultValue;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return values.containsKey(key) ? Boolean.parseBoolean(values.get(key)) : defaultValue;
+    }
+
+    public FaultInjector faults(String standIn) {
+        return new FaultInjector(
+                getLong(standIn + ".latency-ms", 0),
+                getDouble(standIn + ".error-rate", 0)
+        );
+    }
+
+    public Path orderServiceJar() {
+        return Path.of(get("order-service.jar", "order-service/target/order-service-1.0.0.jar"));
+    }
+
+    public Path inventoryServiceJar() {
+        return Path.of(get("inventory-service.jar", "inventory-service/target/inventory-service-1.0.0.jar"));
+    }
+
+    /**
+     * {@code service} boots the real inventory-service, {@code stub} serves inventory
+     * calls from an in-process stand-in.
+     */
+    public String inventoryMode() {
+        return get("inventory.mode", "service");
+    }
+
+    public Path postmanCollection() {
+        return Path.of(get("postman-collection", "postman-collection.json"));
+    }
+
+    public Path workDir() {
+        return Path.of(get("work-dir", "load-harness/target/run"));
+    }
+
+    public int concurrency() {
+        return getInt("concurrency", 32);
+    }
+
+    public int warmupSeconds() {
+        return getInt("warmup-seconds", 10);
+    }
+
+    public int durationSeconds() {
+        return getInt("duration-seconds", 60);
+    }
+
+    public int productCount() {
+        return getInt("products", 50);
+    }
+
+    /**
+     * {@code orders} drives the order flow through both services, {@code catalog-reads}
+     * drives product reads against inventory-service alone.
+     */
+    public String scenario() {
+        return get("scenario", "orders");
+    }
+
+    /**
+     * Product endpoints used by the {@code catalog-reads} scenario: {@code reactive} or
+     * {@code blocking}.
+     */
+    public String readStack() {
+        return get("read-stack", "reactive");
+    }
+
+    /**
+     * Concurrent readers in the {@code catalog-reads} scenario.
+     */
+    public int readers() {
+        return getInt("readers", 10_000);
+    }
+
+    /**
+     * Traffic mix as {@code create:read:status} weights.
+     */
+    public String mix() {
+        return get("mix", "20:70:10");
+    }
+}
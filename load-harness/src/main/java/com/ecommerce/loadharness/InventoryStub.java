@@ -0,0 +1,136 @@
+package com.ecommerce.loadharness;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the inventory-service endpoints used by order-service
+ * (product lookup and stock reservation), plus product creation for seeding.
+ */
+public class InventoryStub implements AutoCloseable {
+
+    private static final String BASE_PATH = "/api/inventory";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FaultInjector faults;
+    private final Map<Long, Map<String, Object>> products = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    public InventoryStub(FaultInjector faults) throws IOException {
+        this.faults = faults;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext(BASE_PATH, this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath().substring(BASE_PATH.length());
+        byte[] body = exchange.getRequestBody().readAllBytes();
+
+        // Seeding is not subject to injected faults
+        if (method.equals("POST") && path.equals("/products")) {
+            createProduct(exchange, body);
+            return;
+        }
+
+        faults.delay();
+        if (faults.shouldFail()) {
+            respond(exchange, 503, Map.of("status", 503, "message", "Injected failure"));
+            return;
+        }
+
+        if (method.equals("GET") && path.startsWith("/products/")) {
+            getProduct(exchange, path.substring("/products/".length()));
+        } else if (method.equals("POST") && path.equals("/reserve-stock")) {
+            reserveStock(exchange, body);
+        } else {
+            respond(exchange, 404, Map.of("status", 404, "message", "No stub for " + method + " " + path));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void createProduct(HttpExchange exchange, byte[] body) throws IOException {
+        Map<String, Object> request = objectMapper.readValue(body, Map.class);
+        long id = ids.incrementAndGet();
+
+        Map<String, Object> product = new LinkedHashMap<>(request);
+        product.put("id", id);
+        product.put("price", new BigDecimal(request.get("price").toString()));
+        product.putIfAbsent("active", true);
+        products.put(id, product);
+        respond(exchange, 201, product);
+    }
+
+    private void getProduct(HttpExchange exchange, String id) throws IOException {
+        Map<String, Object> product = products.get(Long.parseLong(id));
+        if (product == null) {
+            respond(exchange, 404, Map.of("status", 404, "message", "Product not found with ID: " + id));
+            return;
+        }
+        synchronized (product) {
+            respond(exchange, 200, product);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void reserveStock(HttpExchange exchange, byte[] body) throws IOException {
+        Map<String, Object> request = objectMapper.readValue(body, Map.class);
+        long productId = ((Number) request.get("productId")).longValue();
+        int quantity = ((Number) request.get("quantity")).intValue();
+
+        Map<String, Object> product = products.get(productId);
+        if (product == null) {
+            respond(exchange, 404, Map.of("status", 404, "message", "Product not found with ID: " + productId));
+            return;
+        }
+        synchronized (product) {
+            int stock = ((Number) product.get("stockQuantity")).intValue();
+            if (stock < quantity) {
+                respond(exchange, 400, Map.of("status", 400, "message", "Insufficient stock"));
+                return;
+            }
+            product.put("stockQuantity", stock - quantity);
+        }
+        byte[] bytes = "Stock Reserved Successfully".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.loadharness;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples (in nanoseconds) of one operation, with outcome counters.
+ */
+public class LatencyStats {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long rejected;
+    private long errors;
+
+    public void recordSuccess(long latencyNanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = latencyNanos;
+    }
+
+    /** A 4xx answer the service is expected to give, e.g. an invalid status transition. */
+    public void recordRejected() {
+        rejected++;
+    }
+
+    /** A 5xx answer, timeout or I/O failure. */
+    public void recordError() {
+        errors++;
+    }
+
+    public void merge(LatencyStats other) {
+        if (size + other.size > samples.length) {
+            samples = Arrays.copyOf(samples, size + other.size);
+        }
+        System.arraycopy(other.samples, 0, samples, size, other.size);
+        size += other.size;
+        rejected += other.rejected;
+        errors += other.errors;
+    }
+
+    public long getCount() {
+        return size;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return latency in milliseconds
+     */
+    public double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,203 @@
+package com.ecommerce.loadharness;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Closed-loop traffic generator: {@code concurrency} workers each issue one request at a
+ * time against order-service, choosing create / read / status-update by the configured mix.
+ */
+public class LoadDriver {
+
+    public enum Operation {
+        CREATE_ORDER, GET_ORDER, GET_CUSTOMER_ORDERS, UPDATE_STATUS
+    }
+
+    private static final int CUSTOMERS = 1000;
+    private static final int RECENT_ORDERS = 10_000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String ordersUrl;
+    private final RequestTemplates templates;
+    private final List<Long> productIds;
+    private final int concurrency;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int createWeight;
+    private final int readWeight;
+    private final int statusWeight;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicLongArray recentOrderIds = new AtomicLongArray(RECENT_ORDERS);
+    private final AtomicInteger createdOrders = new AtomicInteger();
+
+    public LoadDriver(String orderServiceUrl, RequestTemplates templates, List<Long> productIds, HarnessConfig config) {
+        this.ordersUrl = orderServiceUrl + "/api/orders";
+        this.templates = templates;
+        this.productIds = productIds;
+        this.concurrency = config.concurrency();
+        this.warmupSeconds = config.warmupSeconds();
+        this.durationSeconds = config.durationSeconds();
+
+        String[] weights = config.mix().split(":");
+        if (weights.length != 3) {
+            throw new IllegalArgumentException("--mix must be create:read:status, got " + config.mix());
+        }
+        this.createWeight = Integer.parseInt(weights[0]);
+        this.readWeight = Integer.parseInt(weights[1]);
+        this.statusWeight = Integer.parseInt(weights[2]);
+    }
+
+    public LoadReport run() throws InterruptedException, IOException {
+        // Reads and status updates need at least one order to point at
+        Random random = new Random(42);
+        for (int i = 0; i < concurrency; i++) {
+            execute(Operation.CREATE_ORDER, random);
+        }
+
+        long start = System.nanoTime();
+        long measureFrom = start + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(i, measureFrom, end);
+            workers.add(worker);
+            worker.thread.start();
+        }
+
+        Map<String, LatencyStats> merged = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            merged.put(operation.name(), new LatencyStats());
+        }
+        for (Worker worker : workers) {
+            worker.thread.join();
+            worker.stats.forEach((operation, stats) -> merged.get(operation.name()).merge(stats));
+        }
+        return new LoadReport(merged, durationSeconds, concurrency);
+    }
+
+    private Operation pick(Random random) {
+        int roll = random.nextInt(createWeight + readWeight + statusWeight);
+        if (roll < createWeight) {
+            return Operation.CREATE_ORDER;
+        }
+        if (roll < createWeight + readWeight) {
+            return random.nextBoolean() ? Operation.GET_ORDER : Operation.GET_CUSTOMER_ORDERS;
+        }
+        return Operation.UPDATE_STATUS;
+    }
+
+    /**
+     * @return the HTTP status code
+     */
+    private int execute(Operation operation, Random random) throws IOException, InterruptedException {
+        HttpRequest request = switch (operation) {
+            case CREATE_ORDER -> json(URI.create(ordersUrl))
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            templates.orderBody(customerEmail(random), productIds, random)))
+                    .build();
+            case GET_ORDER -> HttpRequest.newBuilder(URI.create(ordersUrl + "/" + recentOrderId(random)))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+            case GET_CUSTOMER_ORDERS -> HttpRequest.newBuilder(URI.create(ordersUrl + "/customer/"
+                            + URLEncoder.encode(customerEmail(random), StandardCharsets.UTF_8)))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+            case UPDATE_STATUS -> json(URI.create(ordersUrl + "/" + recentOrderId(random) + "/status"))
+                    .PUT(HttpRequest.BodyPublishers.ofString(templates.statusBody(random)))
+                    .build();
+        };
+
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (operation == Operation.CREATE_ORDER && response.statusCode() == 201) {
+            int index = createdOrders.getAndIncrement() % RECENT_ORDERS;
+            recentOrderIds.set(index, templates.readId(response.body()));
+        }
+        return response.statusCode();
+    }
+
+    private HttpRequest.Builder json(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+    }
+
+    private String customerEmail(Random random) {
+        return "loadtest-user-" + random.nextInt(CUSTOMERS) + "@example.com";
+    }
+
+    private long recentOrderId(Random random) {
+        int known = Math.min(createdOrders.get(), RECENT_ORDERS);
+        return known == 0 ? 1 : recentOrderIds.get(random.nextInt(known));
+    }
+
+    private class Worker implements Runnable {
+
+        private final Thread thread;
+        private final Random random;
+        private final long measureFrom;
+        private final long end;
+        private final Map<Operation, LatencyStats> stats = new EnumMap<>(Operation.class);
+
+        Worker(int index, long measureFrom, long end) {
+            this.thread = new Thread(this, "load-worker-" + index);
+            this.random = new Random(index);
+            this.measureFrom = measureFrom;
+            this.end = end;
+            for (Operation operation : Operation.values()) {
+                stats.put(operation, new LatencyStats());
+            }
+        }
+
+        @Override
+        public void run() {
+            long now;
+            while ((now = System.nanoTime()) < end) {
+                Operation operation = pick(random);
+                boolean measured = now >= measureFrom;
+                long started = System.nanoTime();
+                try {
+                    int status = execute(operation, random);
+                    long latency = System.nanoTime() - started;
+                    if (!measured) {
+                        continue;
+                    }
+                    if (status < 400) {
+                        stats.get(operation).recordSuccess(latency);
+                    } else if (status < 500) {
+                        stats.get(operation).recordRejected();
+                    } else {
+                        stats.get(operation).recordError();
+                    }
+                } catch (IOException e) {
+                    if (measured) {
+                        stats.get(operation).recordError();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.ecommerce.loadharness;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boots order-service (and inventory-service, or its stand-in) with the {@code loadtest}
+ * profile against in-process stand-ins for RabbitMQ, SMTP and Brevo, drives order
+ * traffic and reports throughput and latency percentiles.
+ *
+ * <pre>
+ * java -jar load-harness/target/load-harness.jar --concurrency=64 --duration-seconds=120 \
+ *      --mix=20:70:10 --smtp.latency-ms=50 --brevo.error-rate=0.05
+ * </pre>
+ *
+ * With {@code --scenario=catalog-reads} it instead boots inventory-service alone and
+ * drives product reads from {@code --readers} concurrent readers against the blocking or
+ * reactive endpoints ({@code --read-stack}).
+ */
+public class LoadHarness {
+
+    private final HarnessConfig config;
+
+    public LoadHarness(HarnessConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        HarnessConfig config = HarnessConfig.fromArgs(args);
+        LoadHarness harness = new LoadHarness(config);
+        LoadReport report = switch (config.scenario()) {
+            case "orders" -> harness.run("default", List.of(), Map.of());
+            case "catalog-reads" -> harness.runCatalogReads(config.readStack() + "-reads", List.of(), Map.of());
+            default -> throw new IllegalArgumentException("Unknown --scenario: " + config.scenario());
+        };
+        report.print(System.out);
+    }
+
+    /**
+     * Runs one load test.
+     *
+     * @param name        name of the run, used for the report file
+     * @param jvmArgs     extra JVM arguments for the service processes
+     * @param environment extra environment variables for the service processes
+     */
+    public LoadReport run(String name, List<String> jvmArgs, Map<String, String> environment) throws Exception {
+        Path workDir = config.workDir().resolve(name);
+        Files.createDirectories(workDir);
+        RequestTemplates templates = RequestTemplates.fromPostmanCollection(config.postmanCollection());
+
+        try (BrevoStub brevo = new BrevoStub(config.faults("brevo"));
+             SmtpStub smtp = new SmtpStub(config.faults("smtp"));
+             Inventory inventory = startInventory(workDir, jvmArgs, environment)) {
+
+            List<Long> productIds = seedProducts(inventory.baseUrl(), templates);
+
+            List<String> orderArgs = List.of(
+                    "--inventory.url=" + inventory.baseUrl(),
+                    "--inventory.service.url=" + inventory.baseUrl() + "/api/inventory",
+                    "--spring.mail.port=" + smtp.getPort(),
+                    "--brevo.sms.url=" + brevo.sendUrl(),
+                    "--loadtest.broker.latency-ms=" + config.faults("broker").getLatencyMs(),
+                    "--loadtest.broker.error-rate=" + config.faults("broker").getErrorRate()
+            );
+
+            try (ServiceProcess orderService = ServiceProcess.start("order-service",
+                    config.orderServiceJar(), workDir, jvmArgs, environment, orderArgs)) {
+
+                LoadReport report;
+                try (ProcessSampler sampler = new ProcessSampler(orderService.pid())) {
+                    report = new LoadDriver(orderService.baseUrl(), templates, productIds, config).run();
+                    report.put("orderServiceBaselineRssKb", sampler.getBaselineRssKb());
+                    report.put("orderServicePeakRssKb", sampler.getPeakRssKb());
+                    report.put("orderServicePeakThreads", sampler.getPeakThreads());
+                }
+                report.put("run", name);
+                report.put("smtpAccepted", smtp.getAccepted());
+                report.put("smtpRejected", smtp.getRejected());
+                report.put("brevoSent", brevo.getSent());
+                report.put("brevoFailed", brevo.getFailed());
+                report.writeJson(workDir.resolve("report.json"));
+                return report;
+            }
+        }
+    }
+
+    /**
+     * Runs the catalog read scenario against inventory-service alone, sampling its threads,
+     * memory and database connections while the readers run.
+     */
+    public LoadReport runCatalogReads(String name, List<String> jvmArgs, Map<String, String> environment)
+            throws Exception {
+        Path workDir = config.workDir().resolve(name);
+        Files.createDirectories(workDir);
+        RequestTemplates templates = RequestTemplates.fromPostmanCollection(config.postmanCollection());
+
+        try (ServiceProcess inventory = ServiceProcess.start("inventory-service",
+                config.inventoryServiceJar(), workDir, jvmArgs, environment, List.of())) {
+
+            List<Long> productIds = seedProducts(inventory.baseUrl(), templates);
+
+            LoadReport report;
+            try (ProcessSampler sampler = new ProcessSampler(inventory.pid())) {
+                report = new CatalogReadDriver(inventory.baseUrl(), productIds, config).run();
+                report.put("inventoryServiceBaselineRssKb", sampler.getBaselineRssKb());
+                report.put("inventoryServicePeakRssKb", sampler.getPeakRssKb());
+                report.put("inventoryServicePeakThreads", sampler.getPeakThreads());
+            }
+            report.put("run", name);
+            report.writeJson(workDir.resolve("report.json"));
+            return report;
+        }
+    }
+
+    private Inventory startInventory(Path workDir, List<String> jvmArgs, Map<String, String> environment)
+            throws IOException {
+        FaultInjector faults = config.faults("inventory");
+        if (config.inventoryMode().equals("stub")) {
+            InventoryStub stub = new InventoryStub(faults);
+            return new Inventory(stub.baseUrl(), stub);
+        }
+        if (faults.getLatencyMs() > 0 || faults.getErrorRate() > 0) {
+            throw new IllegalArgumentException("inventory.latency-ms / inventory.error-rate need --inventory.mode=stub");
+        }
+        ServiceProcess service = ServiceProcess.start("inventory-service",
+                config.inventoryServiceJar(), workDir, jvmArgs, environment, List.of());
+        return new Inventory(service.baseUrl(), service);
+    }
+
+    private List<Long> seedProducts(String inventoryUrl, RequestTemplates templates)
+            throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        List<Long> ids = new ArrayList<>();
+
+        for (int i = 0; i < config.productCount(); i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(inventoryUrl + "/api/inventory/products"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(templates.productBody(i)))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding product " + i + " failed: "
+                        + response.statusCode() + " " + response.body());
+            }
+            ids.add(templates.readId(response.body()));
+        }
+        return ids;
+    }
+
+    /**
+     * The inventory-service process or its stand-in.
+     */
+    private record Inventory(String baseUrl, AutoCloseable resource) implements AutoCloseable {
+
+        @Override
+        public void close() throws Exception {
+            resource.close();
+        }
+    }
+}
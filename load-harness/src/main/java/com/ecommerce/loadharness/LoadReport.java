@@ -0,0 +1,97 @@
+package com.ecommerce.loadharness;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles of a load run.
+ */
+public class LoadReport {
+
+    private final Map<String, LatencyStats> operations;
+    private final int durationSeconds;
+    private final int concurrency;
+    private final Map<String, Object> extra = new LinkedHashMap<>();
+
+    public LoadReport(Map<String, LatencyStats> operations, int durationSeconds, int concurrency) {
+        this.operations = operations;
+        this.durationSeconds = durationSeconds;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Adds a free-form entry (stand-in counters, process metrics) to the report.
+     */
+    public void put(String key, Object value) {
+        extra.put(key, value);
+    }
+
+    public LatencyStats total() {
+        LatencyStats total = new LatencyStats();
+        operations.values().forEach(total::merge);
+        return total;
+    }
+
+    public double throughput() {
+        return (double) total().getCount() / durationSeconds;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%nLoad run: %d workers, %ds measured%n", concurrency, durationSeconds);
+        out.printf("%-22s %10s %10s %8s %8s %10s %10s %10s%n",
+                "operation", "ok", "req/s", "4xx", "errors", "p50 ms", "p99 ms", "p999 ms");
+        operations.forEach((operation, stats) -> printRow(out, operation, stats));
+        printRow(out, "TOTAL", total());
+        extra.forEach((key, value) -> out.printf("%s: %s%n", key, value));
+    }
+
+    private void printRow(PrintStream out, String name, LatencyStats stats) {
+        out.printf("%-22s %10d %10.1f %8d %8d %10.2f %10.2f %10.2f%n",
+                name,
+                stats.getCount(),
+                (double) stats.getCount() / durationSeconds,
+                stats.getRejected(),
+                stats.getErrors(),
+                stats.percentileMillis(50),
+                stats.percentileMillis(99),
+                stats.percentileMillis(99.9));
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("concurrency", concurrency);
+        report.put("durationSeconds", durationSeconds);
+        report.put("throughput", throughput());
+
+        Map<String, Object> perOperation = new LinkedHashMap<>();
+        operations.forEach((operation, stats) -> perOperation.put(operation, statsToMap(stats)));
+        perOperation.put("TOTAL", statsToMap(total()));
+        report.put("operations", perOperation);
+        report.putAll(extra);
+        return report;
+    }
+
+    public void writeJson(Path file) throws IOException {
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), toMap());
+    }
+
+    private Map<String, Object> statsToMap(LatencyStats stats) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("ok", stats.getCount());
+        map.put("rejected", stats.getRejected());
+        map.put("errors", stats.getErrors());
+        map.put("throughput", (double) stats.getCount() / durationSeconds);
+        map.put("p50Ms", stats.percentileMillis(50));
+        map.put("p99Ms", stats.percentileMillis(99));
+        map.put("p999Ms", stats.percentileMillis(99.9));
+        return map;
+    }
+}
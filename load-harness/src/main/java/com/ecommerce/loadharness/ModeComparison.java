@@ -0,0 +1,120 @@
+package com.ecommerce.loadharness;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Runs the load harness once per execution mode and concurrency level and prints a
+ * side-by-side comparison: throughput, p99, errors, peak threads, memory per in-flight
+ * order and, for virtual threads, how often a carrier thread got pinned.
+ *
+ * <pre>
+ * java -cp load-harness/target/load-harness.jar com.ecommerce.loadharness.ModeComparison \
+ *      --levels=16,64,256,1024 --inventory.mode=stub --inventory.latency-ms=20 --smtp.latency-ms=100
+ * </pre>
+ *
+ * {@code --compare=logging} compares logging configurations instead of thread modes.
+ */
+public class ModeComparison {
+
+    /**
+     * One way of running the services.
+     */
+    public record Mode(String name, List<String> jvmArgs, Map<String, String> environment) {
+    }
+
+    static final List<Mode> THREAD_MODES = List.of(
+            new Mode("platform-threads", List.of(), Map.of("VIRTUAL_THREADS_ENABLED", "false")),
+            new Mode("virtual-threads", List.of("-Djdk.tracePinnedThreads=short"),
+                    Map.of("VIRTUAL_THREADS_ENABLED", "true"))
+    );
+
+    /**
+     * Request logging switched off, the previous synchronous unsampled console output
+     * (including Hibernate's {@code show-sql}), and the async, sampled JSON pipeline.
+     */
+    static final List<Mode> LOGGING_MODES = List.of(
+            new Mode("logging-off", List.of(), Map.of("LOG_LEVEL", "WARN")),
+            new Mode("sync-unsampled", List.of(), Map.of(
+                    "LOG_LEVEL", "INFO",
+                    "LOG_DELIVERY", "sync",
+                    "LOG_FORMAT", "plain",
+                    "LOG_HOT_PATH_SAMPLE_EVERY", "1",
+                    "LOG_HOT_PATH_MAX_PER_SECOND", "0",
+                    "JPA_SHOW_SQL", "true",
+                    "JPA_FORMAT_SQL", "true")),
+            new Mode("async-sampled", List.of(), Map.of("LOG_LEVEL", "INFO"))
+    );
+
+    public static void main(String[] args) throws Exception {
+        HarnessConfig config = HarnessConfig.fromArgs(args);
+        List<Mode> modes = modes(config.get("compare", "threads"));
+
+        List<String[]> rows = new ArrayList<>();
+        for (String level : config.get("levels", "16,64,256").split(",")) {
+            HarnessConfig levelConfig = config.with("concurrency", level.trim());
+            int concurrency = levelConfig.concurrency();
+
+            for (Mode mode : modes) {
+                String runName = mode.name() + "-c" + concurrency;
+                LoadReport report = new LoadHarness(levelConfig).run(runName, mode.jvmArgs(), mode.environment());
+                report.print(System.out);
+
+                Map<String, Object> values = report.toMap();
+                long baseline = (Long) values.get("orderServiceBaselineRssKb");
+                long peak = (Long) values.get("orderServicePeakRssKb");
+                LatencyStats total = report.total();
+
+                rows.add(new String[]{
+                        mode.name(),
+                        Integer.toString(concurrency),
+                        String.format("%.1f", report.throughput()),
+                        String.format("%.2f", total.percentileMillis(99)),
+                        Long.toString(total.getErrors()),
+                        values.get("orderServicePeakThreads").toString(),
+                        baseline < 0 ? "n/a" : Long.toString((peak - baseline) / concurrency),
+                        Long.toString(countPinnedEvents(levelConfig.workDir().resolve(runName)))
+                });
+            }
+        }
+
+        System.out.printf("%n%-18s %8s %10s %10s %8s %10s %16s %8s%n",
+                "mode", "workers", "req/s", "p99 ms", "errors", "threads", "KB/in-flight", "pinned");
+        for (String[] row : rows) {
+            System.out.printf("%-18s %8s %10s %10s %8s %10s %16s %8s%n", (Object[]) row);
+        }
+    }
+
+    static List<Mode> modes(String comparison) {
+        if (comparison.equals("threads")) {
+            if (Runtime.version().feature() < 21) {
+                throw new IllegalStateException("Comparing thread modes needs the harness to run on Java 21+");
+            }
+            return THREAD_MODES;
+        }
+        if (comparison.equals("logging")) {
+            return LOGGING_MODES;
+        }
+        throw new IllegalArgumentException("Unknown --compare value: " + comparison);
+    }
+
+    /**
+     * Counts the stack traces printed by {@code -Djdk.tracePinnedThreads} in the service logs.
+     */
+    private static long countPinnedEvents(Path runDir) throws IOException {
+        long pinned = 0;
+        try (Stream<Path> logs = Files.list(runDir)) {
+            for (Path log : logs.filter(path -> path.toString().endsWith(".log")).toList()) {
+                try (Stream<String> lines = Files.lines(log)) {
+                    pinned += lines.filter(line -> line.contains("<== monitors")).count();
+                }
+            }
+        }
+        return pinned;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.loadharness;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples resident memory and thread count of a service process from
+ * {@code /proc/<pid>/status} and keeps the peaks. Reports {@code -1} on platforms
+ * without procfs.
+ */
+public class ProcessSampler implements AutoCloseable {
+
+    private final Path statusFile;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final long baselineRssKb;
+    private volatile long peakRssKb = -1;
+    private volatile long peakThreads = -1;
+
+    public ProcessSampler(long pid) {
+        this.statusFile = Path.of("/proc", Long.toString(pid), "status");
+        this.baselineRssKb = read("VmRSS:");
+        scheduler.scheduleAtFixedRate(this::sample, 0, 250, TimeUnit.MILLISECONDS);
+    }
+
+    private void sample() {
+        peakRssKb = Math.max(peakRssKb, read("VmRSS:"));
+        peakThreads = Math.max(peakThreads, read("Threads:"));
+    }
+
+    private long read(String field) {
+        if (!Files.isReadable(statusFile)) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(statusFile)) {
+                if (line.startsWith(field)) {
+                    return Long.parseLong(line.substring(field.length()).trim().split("\\s+")[0]);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // process exited or unexpected format
+        }
+        return -1;
+    }
+
+    public long getBaselineRssKb() {
+        return baselineRssKb;
+    }
+
+    public long getPeakRssKb() {
+        return peakRssKb;
+    }
+
+    public long getPeakThreads() {
+        return peakThreads;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.loadharness;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Request bodies for the generated traffic, seeded from the Postman collection
+ * ("Create Product", "Create Order" and the "Update Order Status" requests).
+ */
+public class RequestTemplates {
+
+    private static final int SEED_STOCK = 1_000_000;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectNode productTemplate;
+    private final ObjectNode orderTemplate;
+    private final List<String> statusBodies;
+
+    private RequestTemplates(ObjectMapper objectMapper, ObjectNode productTemplate,
+                             ObjectNode orderTemplate, List<String> statusBodies) {
+        this.objectMapper = objectMapper;
+        this.productTemplate = productTemplate;
+        this.orderTemplate = orderTemplate;
+        this.statusBodies = statusBodies;
+    }
+
+    public static RequestTemplates fromPostmanCollection(Path collection) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode root = objectMapper.readTree(collection.toFile());
+
+        ObjectNode productTemplate = null;
+        ObjectNode orderTemplate = null;
+        List<String> statusBodies = new ArrayList<>();
+
+        for (JsonNode request : collectRequests(root, new ArrayList<>())) {
+            String method = request.path("method").asText();
+            String url = request.path("url").path("raw").asText(request.path("url").asText());
+            String body = request.path("body").path("raw").asText("");
+
+            if (method.equals("POST") && url.endsWith("/api/inventory/products")) {
+                productTemplate = (ObjectNode) objectMapper.readTree(body);
+            } else if (method.equals("POST") && url.endsWith("/api/orders")) {
+                orderTemplate = (ObjectNode) objectMapper.readTree(body);
+            } else if (method.equals("PUT") && url.endsWith("/status")) {
+                statusBodies.add(objectMapper.writeValueAsString(objectMapper.readTree(body)));
+            }
+        }
+
+        if (productTemplate == null || orderTemplate == null || statusBodies.isEmpty()) {
+            throw new IllegalStateException("Postman collection " + collection
+                    + " must contain Create Product, Create Order and Update Order Status requests");
+        }
+        // The collection predates the phone number becoming mandatory
+        if (!orderTemplate.has("customerPhone")) {
+            orderTemplate.put("customerPhone", "919876543210");
+        }
+        return new RequestTemplates(objectMapper, productTemplate, orderTemplate, statusBodies);
+    }
+
+    private static List<JsonNode> collectRequests(JsonNode node, List<JsonNode> requests) {
+        for (JsonNode item : node.path("item")) {
+            if (item.has("request")) {
+                requests.add(item.get("request"));
+            }
+            collectRequests(item, requests);
+        }
+        return requests;
+    }
+
+    public String productBody(int index) throws IOException {
+        ObjectNode product = productTemplate.deepCopy();
+        product.put("sku", productTemplate.path("sku").asText("SKU") + "-LT-" + index);
+        product.put("name", productTemplate.path("name").asText("Product") + " #" + index);
+        product.put("stockQuantity", SEED_STOCK);
+        product.put("active", true);
+        return objectMapper.writeValueAsString(product);
+    }
+
+    public String orderBody(String customerEmail, List<Long> productIds, Random random) throws IOException {
+        ObjectNode order = orderTemplate.deepCopy();
+        order.put("customerEmail", customerEmail);
+
+        ArrayNode items = (ArrayNode) order.get("items");
+        for (JsonNode item : items) {
+            ((ObjectNode) item).put("productId", productIds.get(random.nextInt(productIds.size())));
+        }
+        return objectMapper.writeValueAsString(order);
+    }
+
+    public String statusBody(Random random) {
+        return statusBodies.get(random.nextInt(statusBodies.size()));
+    }
+
+    public long readId(String json) throws IOException {
+        return objectMapper.readTree(json).path("id").asLong();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.orderservice.config;
+
+import com.ecommerce.orderservice.service.OrderMessageConsumer;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Replaces {@link RabbitMQConfig} when running under the load harness, so that no
+ * broker is needed.
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestBrokerConfig {
+
+    @Value("${rabbitmq.exchange.order}")
+    private String orderExchange;
+
+    @Value("${loadtest.broker.latency-ms:0}")
+    private long latencyMs;
+
+    @Value("${loadtest.broker.error-rate:0}")
+    private double errorRate;
+
+    @Value("${loadtest.broker.consumers:1}")
+    private int consumers;
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(OrderMessageConsumer orderMessageConsumer) {
+        return new LoopbackRabbitTemplate(orderMessageConsumer, orderExchange, latencyMs, errorRate, consumers);
+    }
+}
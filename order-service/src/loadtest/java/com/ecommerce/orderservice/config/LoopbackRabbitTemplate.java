@@ -0,0 +1,93 @@
+package com.ecommerce.orderservice.config;
+
+import com.ecommerce.orderservice.service.OrderMessageConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.net.ConnectException;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-process stand-in for RabbitMQ used by the {@code loadtest} profile.
+ *
+ * Messages sent to the order exchange go through the same JSON conversion as with the
+ * real broker and are handed to {@link OrderMessageConsumer} on a separate consumer
+ * thread. Publish latency and publish failures can be injected to model a slow or
+ * unhealthy broker.
+ */
+public class LoopbackRabbitTemplate extends RabbitTemplate {
+
+    private static final Logger log = LoggerFactory.getLogger(LoopbackRabbitTemplate.class);
+
+    private final OrderMessageConsumer orderMessageConsumer;
+    private final String orderExchange;
+    private final long latencyMs;
+    private final double errorRate;
+    private final MessageConverter converter = new Jackson2JsonMessageConverter();
+    private final ExecutorService consumerExecutor;
+
+    public LoopbackRabbitTemplate(OrderMessageConsumer orderMessageConsumer, String orderExchange,
+                                  long latencyMs, double errorRate, int consumers) {
+        this.orderMessageConsumer = orderMessageConsumer;
+        this.orderExchange = orderExchange;
+        this.latencyMs = latencyMs;
+        this.errorRate = errorRate;
+        this.consumerExecutor = Executors.newFixedThreadPool(consumers);
+    }
+
+    @Override
+    public void convertAndSend(String exchange, String routingKey, Object object) {
+        injectFaults();
+
+        if (!orderExchange.equals(exchange)) {
+            return;
+        }
+
+        Message message = converter.toMessage(object, new MessageProperties());
+        consumerExecutor.execute(() -> deliver(message));
+    }
+
+    /**
+     * Nothing to check: there is no connection factory behind this template.
+     */
+    @Override
+    public void afterPropertiesSet() {
+    }
+
+    @Override
+    public void destroy() {
+        consumerExecutor.shutdown();
+        super.destroy();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(Message message) {
+        try {
+            orderMessageConsumer.consumeOrderMessage((Map<String, Object>) converter.fromMessage(message));
+        } catch (Exception e) {
+            log.error("Error while consuming loopback order event", e);
+        }
+    }
+
+    private void injectFaults() {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            throw new AmqpConnectException(new ConnectException("Injected broker failure"));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.ecommerce.orderservice.cache;
+
+import com.ecommerce.orderservice.datasource.ReadYourWritesGuard;
+import com.ecommerce.orderservice.dto.OrderResponse;
+import com.ecommerce.orderservice.service.OrderService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Order history per customer, keyed by normalised email, for the "My orders" page.
+ *
+ * Entries are filled on read and kept current on this instance by writing through the
+ * orders it creates or updates. Every change is also broadcast on a fanout exchange;
+ * other instances drop their entry for the customer and read it from the primary on the
+ * next request, so they do not cache a lagging replica's copy.
+ *
+ * Writes are applied after commit, and both write-through and invalidation go through
+ * the cache's per-key compute, so they wait for a load of the same key in progress.
+ */
+@Component
+public class CustomerOrderCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerOrderCache.class);
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private Cache<String, List<OrderResponse>> cache;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private ReadYourWritesGuard readYourWritesGuard;
+
+    @Value("${rabbitmq.exchange.cache-invalidation}")
+    private String invalidationExchange;
+
+    @Value("${orders.customer-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${orders.customer-cache.expire-after-access:10m}")
+    private Duration expireAfterAccess;
+
+    @Value("${orders.customer-cache.expire-after-write:5m}")
+    private Duration expireAfterWrite;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                // Reloads an entry that is read often even if an invalidation was lost
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param loader reads the customer's orders by normalised email on a miss
+     */
+    public List<OrderResponse> get(String email, Supplier<List<OrderResponse>> loader) {
+        return cache.get(normalize(email), key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Writes a created or updated order into its customer's entry once the current
+     * transaction commits, and tells the other instances to drop theirs.
+     */
+    public void orderSaved(OrderResponse order) {
+        afterCommit(() -> {
+            cache.asMap().computeIfPresent(normalize(order.getCustomerEmail()),
+                    (key, orders) -> withOrder(orders, order));
+            broadcast(List.of(order.getCustomerEmail()));
+        });
+    }
+
+    /**
+     * Drops the entries of these customers once the current transaction commits, here
+     * and on the other instances.
+     */
+    public void evict(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            emails.forEach(email -> cache.invalidate(normalize(email)));
+            broadcast(emails);
+        });
+    }
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue,
+            exchange = @Exchange(value = "${rabbitmq.exchange.cache-invalidation}", type = ExchangeTypes.FANOUT)))
+    public void onInvalidation(Map<String, Object> message) {
+        if (instanceId.equals(message.get("instanceId"))) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<String> emails = (List<String>) message.get("emails");
+        for (String email : emails) {
+            // The replica may not have the change yet; the next load must not cache its copy
+            readYourWritesGuard.recordWrite(OrderService.customerKey(email));
+            cache.invalidate(email);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("maximumSize", maximumSize);
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRatio", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("averageLoadMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        return result;
+    }
+
+    private static List<OrderResponse> withOrder(List<OrderResponse> orders, OrderResponse order) {
+        List<OrderResponse> updated = new ArrayList<>(orders.size() + 1);
+        boolean replaced = false;
+        for (OrderResponse existing : orders) {
+            if (existing.getId().equals(order.getId())) {
+                updated.add(order);
+                replaced = true;
+            } else {
+                updated.add(existing);
+            }
+        }
+        if (!replaced) {
+            updated.add(order);
+        }
+        return List.copyOf(updated);
+    }
+
+    private void broadcast(Collection<String> emails) {
+        Set<String> normalized = new LinkedHashSet<>();
+        emails.forEach(email -> normalized.add(normalize(email)));
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("instanceId", instanceId);
+        message.put("emails", List.copyOf(normalized));
+        try {
+            rabbitTemplate.convertAndSend(invalidationExchange, "", message);
+        } catch (Exception e) {
+            // Other instances fall back to expiry for these customers
+            logger.error("Error publishing customer order cache invalidation: ", e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.ecommerce.orderservice.client;
+
+import com.ecommerce.common.deadline.Deadline;
+import com.ecommerce.orderservice.dto.ReserveStockRequest;
+import com.ecommerce.orderservice.exception.InsufficientStockException;
+import com.ecommerce.orderservice.exception.InventoryUnavailableException;
+import com.ecommerce.orderservice.exception.ProductNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Calls to the inventory service, behind a circuit breaker.
+ *
+ * Each call's timeouts are bounded by the request's {@link Deadline}, whose remaining
+ * budget is passed on in the {@value Deadline#HEADER} header.
+ *
+ * Timeouts, connection failures and 5xx responses count against the breaker; once too
+ * many calls fail or are slow, it opens and calls fail at once with
+ * {@link InventoryUnavailableException} instead of each waiting out its timeout. A 404
+ * is a {@link ProductNotFoundException} and does not count as a failure.
+ *
+ * Product reads that fail fall back to the last product data read within the stale
+ * window. That is only used to validate and price an order: the stock reservation always
+ * goes to the inventory service and remains the authoritative stock check.
+ */
+@Component
+public class InventoryClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryClient.class);
+
+    private RestTemplate restTemplate;
+    private CircuitBreaker circuitBreaker;
+    private Cache<Long, Map<String, Object>> lastKnownProducts;
+    private final LongAdder staleReads = new LongAdder();
+
+    @Autowired
+    private RestTemplateBuilder restTemplateBuilder;
+
+    @Value("${inventory.service.url}")
+    private String inventoryServiceUrl;
+
+    @Value("${inventory.url}")
+    private String inventoryUrl;
+
+    @Value("${inventory.client.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    @Value("${inventory.client.read-timeout:2s}")
+    private Duration readTimeout;
+
+    @Value("${inventory.client.breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${inventory.client.breaker.slow-call-duration:1s}")
+    private Duration slowCallDuration;
+
+    @Value("${inventory.client.breaker.slow-call-rate-threshold:80}")
+    private float slowCallRateThreshold;
+
+    @Value("${inventory.client.breaker.sliding-window-size:50}")
+    private int slidingWindowSize;
+
+    @Value("${inventory.client.breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${inventory.client.breaker.open-duration:10s}")
+    private Duration openDuration;
+
+    @Value("${inventory.client.breaker.half-open-calls:5}")
+    private int halfOpenCalls;
+
+    @Value("${inventory.client.stale.maximum-size:10000}")
+    private long staleMaximumSize;
+
+    @Value("${inventory.client.stale.max-age:10m}")
+    private Duration staleMaxAge;
+
+    @PostConstruct
+    void init() {
+        restTemplate = restTemplateBuilder
+                .requestFactory(DeadlineBoundRequestFactory::new)
+                .additionalInterceptors((request, body, execution) -> {
+                    Deadline.current().ifPresent(deadline -> request.getHeaders()
+                            .set(Deadline.HEADER, String.valueOf(deadline.remaining().toMillis())));
+                    return execution.execute(request, body);
+                })
+                .build();
+        circuitBreaker = CircuitBreaker.of("inventory", CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                // 4xx are answers from a healthy service; a call cut short by the caller's
+                // deadline says nothing about inventory's health
+                .ignoreException(e -> e instanceof HttpClientErrorException || Deadline.isCurrentExpired())
+                .build());
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                logger.warn("Inventory circuit breaker: {}", event.getStateTransition()));
+        lastKnownProducts = Caffeine.newBuilder()
+                .maximumSize(staleMaximumSize)
+                .expireAfterWrite(staleMaxAge)
+                .build();
+    }
+
+    /**
+     * @return the product as returned by the inventory service, or its last known data
+     *         if the service cannot be reached
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getProduct(Long productId) {
+        String url = inventoryServiceUrl + "/products/" + productId;
+        Deadline.checkCurrent("reading product " + productId);
+        try {
+            logger.info("Fetching product details from: {}", url);
+            Map<String, Object> product = circuitBreaker.executeSupplier(() -> restTemplate.getForObject(url, Map.class));
+            if (product == null) {
+                throw new ProductNotFoundException("Product not found with ID: " + productId);
+            }
+            lastKnownProducts.put(productId, product);
+            return product;
+        } catch (HttpClientErrorException.NotFound e) {
+            lastKnownProducts.invalidate(productId);
+            throw new ProductNotFoundException("Product not found with ID: " + productId);
+        } catch (HttpClientErrorException e) {
+            throw e;
+        } catch (CallNotPermittedException | RestClientException e) {
+            Deadline.checkCurrent("inventory answered for product " + productId);
+            Map<String, Object> lastKnown = lastKnownProducts.getIfPresent(productId);
+            if (lastKnown == null) {
+                throw unavailable(e);
+            }
+            staleReads.increment();
+            logger.warn("Inventory unavailable ({}), using last known data for product {}", e.getMessage(), productId);
+            return lastKnown;
+        }
+    }
+
+    public void reserveStock(Long productId, int quantity) {
+        ReserveStockRequest reserve = new ReserveStockRequest(productId, quantity);
+        Deadline.checkCurrent("reserving stock of product " + productId);
+        try {
+            circuitBreaker.executeRunnable(() ->
+                    restTemplate.postForObject(inventoryUrl + "/api/inventory/reserve-stock", reserve, String.class));
+        } catch (HttpClientErrorException.NotFound e) {
+            lastKnownProducts.invalidate(productId);
+            throw new ProductNotFoundException("Product not found with ID: " + productId);
+        } catch (HttpClientErrorException.BadRequest e) {
+            throw new InsufficientStockException(errorMessage(e));
+        } catch (HttpClientErrorException e) {
+            throw e;
+        } catch (CallNotPermittedException | RestClientException e) {
+            Deadline.checkCurrent("inventory answered the reservation of product " + productId);
+            throw unavailable(e);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", circuitBreaker.getState());
+        stats.put("failureRate", metrics.getFailureRate());
+        stats.put("slowCallRate", metrics.getSlowCallRate());
+        stats.put("bufferedCalls", metrics.getNumberOfBufferedCalls());
+        stats.put("failedCalls", metrics.getNumberOfFailedCalls());
+        stats.put("slowCalls", metrics.getNumberOfSlowCalls());
+        stats.put("notPermittedCalls", metrics.getNumberOfNotPermittedCalls());
+        stats.put("lastKnownProducts", lastKnownProducts.estimatedSize());
+        stats.put("staleReads", staleReads.sum());
+        return stats;
+    }
+
+    private InventoryUnavailableException unavailable(RuntimeException cause) {
+        if (cause instanceof CallNotPermittedException) {
+            return new InventoryUnavailableException("Inventory service is unavailable, retry later",
+                    Math.max(1, openDuration.toSeconds()), cause);
+        }
+        logger.error("Error calling inventory service: {}", cause.getMessage());
+        return new InventoryUnavailableException("Inventory service did not respond, retry later", 1, cause);
+    }
+
+    /**
+     * Connect and read timeouts of each call, shortened to what is left of the request's
+     * deadline.
+     */
+    private final class DeadlineBoundRequestFactory extends SimpleClientHttpRequestFactory {
+
+        @Override
+        protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+            super.prepareConnection(connection, httpMethod);
+            Deadline deadline = Deadline.current().orElse(null);
+            connection.setConnectTimeout(timeoutMillis(connectTimeout, deadline));
+            connection.setReadTimeout(timeoutMillis(readTimeout, deadline));
+        }
+
+        private static int timeoutMillis(Duration timeout, Deadline deadline) {
+            Duration bounded = deadline != null ? deadline.bound(timeout) : timeout;
+            // Zero means no timeout at all to HttpURLConnection
+            return (int) Math.max(1, bounded.toMillis());
+        }
+    }
+
+    /**
+     * The message of the inventory service's error response, if it has one.
+     */
+    private static String errorMessage(HttpClientErrorException e) {
+        try {
+            Map<?, ?> body = e.getResponseBodyAs(Map.class);
+            if (body != null && body.get("message") != null) {
+                return body.get("message").toString();
+            }
+        } catch (RuntimeException ignored) {
+            // Not a JSON error response
+        }
+        return e.getStatusText();
+    }
+}
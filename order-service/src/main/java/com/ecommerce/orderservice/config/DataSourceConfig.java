@@ -0,0 +1,62 @@
+package com.ecommerce.orderservice.config;
+
+import com.ecommerce.common.datasource.ConnectionPools;
+import com.ecommerce.common.datasource.ReadWriteRoutingDataSource;
+import com.ecommerce.common.deadline.DeadlineDataSource;
+import com.ecommerce.orderservice.profiling.ConnectionProfiler;
+import com.ecommerce.orderservice.profiling.ProfilingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * A primary and a replica connection pool behind one routing {@link DataSource}:
+ * read-only transactions use the replica, everything else the primary. Without a
+ * configured replica both pools point at the primary database. Statements run for a
+ * request are bounded by its {@link com.ecommerce.common.deadline.Deadline}.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Value("${spring.datasource.driver-class-name}")
+    private String driverClassName;
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${app.datasource.primary.max-pool-size:10}") int maxPoolSize) {
+        return ConnectionPools.create("primary", driverClassName, url, username, password, maxPoolSize, false);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username}") String username,
+            @Value("${app.datasource.replica.password}") String password,
+            @Value("${app.datasource.replica.max-pool-size:10}") int maxPoolSize) {
+        return ConnectionPools.create("replica", driverClassName, url, username, password, maxPoolSize, true);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource, ConnectionProfiler profiler,
+                                 @Value("${profiling.jdbc.enabled:true}") boolean profilingEnabled) {
+        DataSource target = profilingEnabled ? new ProfilingDataSource(routingDataSource, profiler) : routingDataSource;
+        return new LazyConnectionDataSourceProxy(new DeadlineDataSource(target));
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica) {
+        return ReadWriteRoutingDataSource.of(primary, replica);
+    }
+}
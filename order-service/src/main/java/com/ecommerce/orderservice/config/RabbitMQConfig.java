@@ -68,8 +68,10 @@ import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 @Configuration
+@Profile("!loadtest")
 public class RabbitMQConfig {
 
     @Value("${rabbitmq.queue.order}")
@@ -108,6 +110,8 @@ public class RabbitMQConfig {
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(messageConverter());
+        // Sends the trace context in the message headers
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
 }
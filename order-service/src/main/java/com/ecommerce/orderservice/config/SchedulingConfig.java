@@ -0,0 +1,13 @@
+package com.ecommerce.orderservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the {@code @Scheduled} jobs on Spring Boot's task scheduler, sized by
+ * {@code spring.task.scheduling.pool.size} rather than its default of one thread.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
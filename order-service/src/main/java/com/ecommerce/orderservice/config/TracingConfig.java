@@ -0,0 +1,54 @@
+package com.ecommerce.orderservice.config;
+
+import com.ecommerce.common.tracing.RepositoryObservationAspect;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tracing with Micrometer Tracing over OpenTelemetry. HTTP server requests and
+ * {@code RestTemplateBuilder}-built clients are traced by Spring Boot; this adds
+ * {@code @Observed} methods, repository calls, the {@code @RabbitListener} consumers,
+ * and a span exporter that needs no collector.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    /**
+     * A span per repository call; off with {@code tracing.repositories.enabled=false}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.repositories.enabled", havingValue = "true", matchIfMissing = true)
+    public RepositoryObservationAspect repositoryObservationAspect(ObservationRegistry observationRegistry) {
+        return new RepositoryObservationAspect(observationRegistry);
+    }
+
+    /**
+     * Continues the trace carried in the headers of consumed messages.
+     */
+    @Bean
+    public ContainerCustomizer<SimpleMessageListenerContainer> observedListenerContainers() {
+        return container -> container.setObservationEnabled(true);
+    }
+
+    /**
+     * Finished spans as OTLP JSON, one batch per line, to the traces file configured in
+     * logback-spring.xml. Works offline; the file can be replayed into any OTLP backend.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.export.file.enabled", havingValue = "true", matchIfMissing = true)
+    public SpanExporter fileSpanExporter() {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ecommerce.orderservice.config;
+
+import com.ecommerce.common.deadline.DeadlineInterceptor;
+import com.ecommerce.orderservice.limiter.ConcurrencyLimitInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private static final String[] ORDER_API = {"/api/orders", "/api/orders/**"};
+
+    // Long-polling and event streams are held open by design and bounded by their own settings
+    private static final String[] STREAMING = {"/api/orders/changes", "/api/orders/*/events", "/api/orders/customer/*/events"};
+
+    // Budget of requests that do not send one
+    @Value("${orders.deadline.default:10s}")
+    private Duration defaultDeadline;
+
+    @Value("${orders.deadline.max:30s}")
+    private Duration maxDeadline;
+
+    @Autowired
+    private ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // The deadline starts before the request waits for anything. Bulk status updates
+        // commit chunk by chunk, and cutting them short would leave them half applied.
+        registry.addInterceptor(new DeadlineInterceptor(defaultDeadline, maxDeadline))
+                .addPathPatterns(ORDER_API)
+                .excludePathPatterns(STREAMING)
+                .excludePathPatterns("/api/orders/status");
+        registry.addInterceptor(concurrencyLimitInterceptor)
+                .addPathPatterns(ORDER_API)
+                .excludePathPatterns(STREAMING);
+    }
+}
@@ -1,8 +1,14 @@
 package com.ecommerce.orderservice.controller;
 
+import com.ecommerce.common.web.ConditionalRequests;
+import com.ecommerce.orderservice.dto.BulkStatusUpdateRequest;
+import com.ecommerce.orderservice.dto.BulkStatusUpdateResponse;
+import com.ecommerce.orderservice.dto.OrderChangesResponse;
 import com.ecommerce.orderservice.dto.OrderRequest;
 import com.ecommerce.orderservice.dto.OrderResponse;
 import com.ecommerce.orderservice.dto.OrderStatusUpdateRequest;
+import com.ecommerce.orderservice.feed.OrderChangeFeed;
+import com.ecommerce.orderservice.feed.OrderEventBroadcaster;
 import com.ecommerce.orderservice.model.OrderStatus;
 import com.ecommerce.orderservice.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,10 +18,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/orders")
@@ -24,9 +35,19 @@ public class OrderController {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
 
+    private static final int MAX_CHANGES_PAGE_SIZE = 1000;
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private OrderChangeFeed orderChangeFeed;
+
+    @Autowired
+    private OrderEventBroadcaster orderEventBroadcaster;
+
     @PostMapping
     @Operation(summary = "Create a new order", description = "Place a new order with inventory validation")
     public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody OrderRequest request) {
@@ -37,10 +58,16 @@ public class OrderController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get order by ID", description = "Retrieve order details by order ID")
-    public ResponseEntity<OrderResponse> getOrderById(@PathVariable Long id) {
+    public ResponseEntity<OrderResponse> getOrderById(@PathVariable Long id, WebRequest webRequest) {
         logger.info("REST request to get order: {}", id);
+        if (ConditionalRequests.isConditional(webRequest)) {
+            String eTag = orderService.getOrderETag(id);
+            if (ConditionalRequests.matchesIfNoneMatch(webRequest, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
         OrderResponse response = orderService.getOrderById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(response.getETag()).body(response);
     }
 
     @GetMapping
@@ -51,6 +78,40 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/changes")
+    @Operation(summary = "Get order changes",
+            description = "Order creations and status changes after the given sequence number, oldest first. "
+                    + "With wait > 0, a caught-up request is held open for up to that many seconds until a change arrives")
+    public CompletableFuture<OrderChangesResponse> getOrderChanges(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") int wait) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_CHANGES_PAGE_SIZE));
+        return orderChangeFeed.changesAfter(Math.max(after, 0), pageSize, Duration.ofSeconds(wait));
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to order changes",
+            description = "Server-Sent Events for status changes of one order; send Last-Event-ID to resume")
+    public SseEmitter subscribeToOrder(
+            @PathVariable Long id,
+            @RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId) {
+        logger.info("REST request to subscribe to order: {}", id);
+        // 404 for unknown orders, without loading the order
+        orderService.getOrderETag(id);
+        return orderEventBroadcaster.subscribeToOrder(id, lastEventId);
+    }
+
+    @GetMapping(value = "/customer/{email}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to a customer's order changes",
+            description = "Server-Sent Events for new orders and status changes of one customer; send Last-Event-ID to resume")
+    public SseEmitter subscribeToCustomer(
+            @PathVariable String email,
+            @RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId) {
+        logger.info("REST request to subscribe to orders of: {}", email);
+        return orderEventBroadcaster.subscribeToCustomer(email, lastEventId);
+    }
+
     @GetMapping("/status/{status}")
     @Operation(summary = "Get orders by status", description = "Retrieve orders by their status")
     public ResponseEntity<List<OrderResponse>> getOrdersByStatus(@PathVariable OrderStatus status) {
@@ -76,4 +137,14 @@ public class OrderController {
         OrderResponse response = orderService.updateOrderStatus(id, request.getStatus());
         return ResponseEntity.ok(response);
     }
+
+    @PutMapping("/status")
+    @Operation(summary = "Update order status in bulk",
+            description = "Move many orders to one status; orders that cannot make the transition are reported, not failed")
+    public ResponseEntity<BulkStatusUpdateResponse> updateOrderStatuses(
+            @Valid @RequestBody BulkStatusUpdateRequest request) {
+        logger.info("REST request to update {} orders to status: {}", request.getOrderIds().size(), request.getStatus());
+        BulkStatusUpdateResponse response = orderService.updateOrderStatuses(request.getOrderIds(), request.getStatus());
+        return ResponseEntity.ok(response);
+    }
 }
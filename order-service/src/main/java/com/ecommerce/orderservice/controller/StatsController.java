@@ -0,0 +1,144 @@
+package com.ecommerce.orderservice.controller;
+
+import com.ecommerce.common.datasource.ReadWriteRoutingDataSource;
+import com.ecommerce.orderservice.cache.CustomerOrderCache;
+import com.ecommerce.orderservice.client.InventoryClient;
+import com.ecommerce.orderservice.datasource.ReadYourWritesGuard;
+import com.ecommerce.orderservice.feed.OrderChangeFeed;
+import com.ecommerce.orderservice.feed.OrderEventBroadcaster;
+import com.ecommerce.orderservice.limiter.ConcurrencyLimitInterceptor;
+import com.ecommerce.orderservice.profiling.ConnectionProfiler;
+import com.ecommerce.orderservice.storage.OrderArchive;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/stats")
+@Tag(name = "Runtime Stats", description = "Runtime diagnostics for capacity testing")
+public class StatsController {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    private ReadYourWritesGuard readYourWritesGuard;
+
+    @Autowired
+    private ConnectionProfiler connectionProfiler;
+
+    @Autowired
+    private OrderArchive orderArchive;
+
+    @Autowired
+    private CustomerOrderCache customerOrderCache;
+
+    @Autowired
+    private ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    @Autowired
+    private InventoryClient inventoryClient;
+
+    @Autowired
+    private OrderChangeFeed orderChangeFeed;
+
+    @Autowired
+    private OrderEventBroadcaster orderEventBroadcaster;
+
+    @GetMapping("/connections")
+    @Operation(summary = "Connection pool usage", description = "Current usage of the primary and replica connection pools")
+    public ResponseEntity<Map<String, Object>> getConnectionStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("primary", poolStats(primaryDataSource, ReadWriteRoutingDataSource.Route.PRIMARY));
+        stats.put("replica", poolStats(replicaDataSource, ReadWriteRoutingDataSource.Route.REPLICA));
+        stats.put("recentWritesOnPrimary", readYourWritesGuard.size());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/connection-hogs")
+    @Operation(summary = "Top connection holders",
+            description = "Service and repository methods ranked by total JDBC connection hold time")
+    public ResponseEntity<List<ConnectionProfiler.SiteSummary>> getConnectionHogs(
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(connectionProfiler.topConnectionHogs(Math.max(1, limit)));
+    }
+
+    @GetMapping("/statements")
+    @Operation(summary = "Statement time per call site",
+            description = "Service and repository methods ranked by total JDBC statement time")
+    public ResponseEntity<List<ConnectionProfiler.SiteSummary>> getStatementStats(
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(connectionProfiler.topStatements(Math.max(1, limit)));
+    }
+
+    @GetMapping("/order-archive")
+    @Operation(summary = "Order archive size", description = "Files and bytes of closed orders archived to disk")
+    public ResponseEntity<Map<String, Object>> getOrderArchiveStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("files", orderArchive.fileCount());
+        stats.put("bytes", orderArchive.sizeInBytes());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/inventory-client")
+    @Operation(summary = "Inventory circuit breaker", description = "Breaker state, failure and slow call rates, and reads served from last known product data")
+    public ResponseEntity<Map<String, Object>> getInventoryClientStats() {
+        return ResponseEntity.ok(inventoryClient.stats());
+    }
+
+    @GetMapping("/concurrency-limits")
+    @Operation(summary = "Concurrency limits", description = "Current adaptive limit, in-flight and shed requests for order reads and writes")
+    public ResponseEntity<Map<String, Object>> getConcurrencyLimitStats() {
+        return ResponseEntity.ok(concurrencyLimitInterceptor.stats());
+    }
+
+    @GetMapping("/customer-order-cache")
+    @Operation(summary = "Customer order cache", description = "Size, hit ratio and evictions of the per-customer order history cache")
+    public ResponseEntity<Map<String, Object>> getCustomerOrderCacheStats() {
+        return ResponseEntity.ok(customerOrderCache.stats());
+    }
+
+    @GetMapping("/order-changes")
+    @Operation(summary = "Order change feed", description = "Latest sequence number, long-polling readers and event stream subscribers of the change feed")
+    public ResponseEntity<Map<String, Object>> getOrderChangeStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("latestSeq", orderChangeFeed.getLatestSeq());
+        stats.put("waiting", orderChangeFeed.getWaiting());
+        stats.put("eventSubscribers", orderEventBroadcaster.getSubscriberCount());
+        return ResponseEntity.ok(stats);
+    }
+
+    private Map<String, Object> poolStats(HikariDataSource dataSource, ReadWriteRoutingDataSource.Route route) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool != null) {
+            stats.put("active", pool.getActiveConnections());
+            stats.put("idle", pool.getIdleConnections());
+            stats.put("total", pool.getTotalConnections());
+            stats.put("pending", pool.getThreadsAwaitingConnection());
+        }
+        stats.put("max", dataSource.getMaximumPoolSize());
+        stats.put("connectionsRouted", routingDataSource.getConnectionsRouted(route));
+        return stats;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ecommerce.orderservice.datasource;
+
+import com.ecommerce.common.datasource.ReadWriteRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Keeps reads of just-written data on the primary until the replica can be expected to
+ * have caught up.
+ *
+ * Writers record a key (an order, a customer) once their transaction commits; for the
+ * configured maximum replica lag after that, readers of the same key are routed to the
+ * primary. Recent writes are remembered per instance, so a read served by another
+ * instance is not covered.
+ */
+@Component
+public class ReadYourWritesGuard {
+
+    private static final int PURGE_EVERY = 1024;
+
+    private final Map<String, Long> primaryUntil = new ConcurrentHashMap<>();
+    private final AtomicInteger writesSincePurge = new AtomicInteger();
+
+    @Value("${app.datasource.replica.max-lag:2s}")
+    private Duration maxLag;
+
+    /**
+     * Marks {@code key} as written, from the commit of the current transaction if there
+     * is one.
+     */
+    public void recordWrite(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mark(key);
+                }
+            });
+        } else {
+            mark(key);
+        }
+    }
+
+    /**
+     * Runs a read of {@code key}, on the primary if the key was written within the
+     * maximum replica lag. Must be called before the surrounding transaction runs its
+     * first statement.
+     */
+    public <T> T read(String key, Supplier<T> action) {
+        return isRecentlyWritten(key) ? ReadWriteRoutingDataSource.onPrimary(action) : action.get();
+    }
+
+    public boolean isRecentlyWritten(String key) {
+        Long until = primaryUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until < 0) {
+            return true;
+        }
+        primaryUntil.remove(key, until);
+        return false;
+    }
+
+    public int size() {
+        return primaryUntil.size();
+    }
+
+    private void mark(String key) {
+        long now = System.nanoTime();
+        primaryUntil.put(key, now + maxLag.toNanos());
+        if (writesSincePurge.incrementAndGet() >= PURGE_EVERY) {
+            writesSincePurge.set(0);
+            primaryUntil.values().removeIf(until -> now - until >= 0);
+        }
+    }
+}
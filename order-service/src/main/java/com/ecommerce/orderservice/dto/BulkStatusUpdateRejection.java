@@ -0,0 +1,48 @@
+package com.ecommerce.orderservice.dto;
+
+import com.ecommerce.orderservice.model.OrderStatus;
+
+/**
+ * An order a bulk status update left alone. {@code currentStatus} is {@code null} when
+ * the order does not exist or changed status while the update ran.
+ */
+public class BulkStatusUpdateRejection {
+
+    private Long orderId;
+    private OrderStatus currentStatus;
+    private String reason;
+
+    public BulkStatusUpdateRejection() {}
+
+    public BulkStatusUpdateRejection(Long orderId, OrderStatus currentStatus, String reason) {
+        this.orderId = orderId;
+        this.currentStatus = currentStatus;
+        this.reason = reason;
+    }
+
+    // ====== GETTERS & SETTERS ======
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public OrderStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(OrderStatus currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
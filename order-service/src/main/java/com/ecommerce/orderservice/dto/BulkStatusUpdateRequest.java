@@ -0,0 +1,43 @@
+package com.ecommerce.orderservice.dto;
+
+import com.ecommerce.orderservice.model.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one order ID is required")
+    @Size(max = 10000, message = "At most 10000 orders can be updated at once")
+    private List<@NotNull(message = "Order ID must not be null") Long> orderIds;
+
+    @NotNull(message = "Order status is required")
+    private OrderStatus status;
+
+    public BulkStatusUpdateRequest() {}
+
+    public BulkStatusUpdateRequest(List<Long> orderIds, OrderStatus status) {
+        this.orderIds = orderIds;
+        this.status = status;
+    }
+
+    // ====== GETTERS & SETTERS ======
+
+    public List<Long> getOrderIds() {
+        return orderIds;
+    }
+
+    public void setOrderIds(List<Long> orderIds) {
+        this.orderIds = orderIds;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+}
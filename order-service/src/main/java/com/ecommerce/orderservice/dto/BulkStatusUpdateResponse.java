@@ -0,0 +1,57 @@
+package com.ecommerce.orderservice.dto;
+
+import com.ecommerce.orderservice.model.OrderStatus;
+
+import java.util.List;
+
+public class BulkStatusUpdateResponse {
+
+    private OrderStatus status;
+    private int requested;
+    private int updated;
+    private List<BulkStatusUpdateRejection> rejected;
+
+    public BulkStatusUpdateResponse() {}
+
+    public BulkStatusUpdateResponse(OrderStatus status, int requested, int updated,
+                                    List<BulkStatusUpdateRejection> rejected) {
+        this.status = status;
+        this.requested = requested;
+        this.updated = updated;
+        this.rejected = rejected;
+    }
+
+    // ====== GETTERS & SETTERS ======
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public List<BulkStatusUpdateRejection> getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(List<BulkStatusUpdateRejection> rejected) {
+        this.rejected = rejected;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ecommerce.orderservice.dto;
+
+import com.ecommerce.orderservice.model.OrderChange;
+import com.ecommerce.orderservice.model.OrderChangeType;
+import com.ecommerce.orderservice.model.OrderStatus;
+
+import java.time.LocalDateTime;
+
+public class OrderChangeResponse {
+
+    private Long seq;
+    private Long orderId;
+    private String customerEmail;
+    private OrderChangeType changeType;
+    private OrderStatus status;
+    private LocalDateTime changedAt;
+
+    public OrderChangeResponse() {}
+
+    public OrderChangeResponse(Long seq, Long orderId, String customerEmail, OrderChangeType changeType,
+                               OrderStatus status, LocalDateTime changedAt) {
+        this.seq = seq;
+        this.orderId = orderId;
+        this.customerEmail = customerEmail;
+        this.changeType = changeType;
+        this.status = status;
+        this.changedAt = changedAt;
+    }
+
+    public static OrderChangeResponse fromEntity(OrderChange change) {
+        return new OrderChangeResponse(change.getSeq(), change.getOrderId(), change.getCustomerEmail(),
+                change.getChangeType(), change.getStatus(), change.getChangedAt());
+    }
+
+    // ====== GETTERS & SETTERS ======
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public void setCustomerEmail(String customerEmail) {
+        this.customerEmail = customerEmail;
+    }
+
+    public OrderChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(OrderChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ecommerce.orderservice.dto;
+
+import java.util.List;
+
+/**
+ * A page of the change feed. Pass {@code next} as {@code after} to get the following page.
+ */
+public class OrderChangesResponse {
+
+    private List<OrderChangeResponse> changes;
+    private long next;
+
+    public OrderChangesResponse() {}
+
+    public OrderChangesResponse(List<OrderChangeResponse> changes, long next) {
+        this.changes = changes;
+        this.next = next;
+    }
+
+    // ====== GETTERS & SETTERS ======
+
+    public List<OrderChangeResponse> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<OrderChangeResponse> changes) {
+        this.changes = changes;
+    }
+
+    public long getNext() {
+        return next;
+    }
+
+    public void setNext(long next) {
+        this.next = next;
+    }
+}
@@ -1,11 +1,13 @@
 package com.ecommerce.orderservice.dto;
 
+import com.ecommerce.orderservice.model.Money;
 import com.ecommerce.orderservice.model.Order;
 import com.ecommerce.orderservice.model.OrderItem;
 import com.ecommerce.orderservice.model.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,7 +19,7 @@ public class OrderResponse {
     private String customerEmail;
     private String shippingAddress;
     private OrderStatus status;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private List<OrderItemResponse> items;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -26,7 +28,7 @@ public class OrderResponse {
 
     public OrderResponse(Long id, String customerName, String customerPhone,
                          String customerEmail, String shippingAddress,
-                         OrderStatus status, BigDecimal totalAmount,
+                         OrderStatus status, Money totalAmount,
                          List<OrderItemResponse> items,
                          LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
@@ -90,11 +92,11 @@ public class OrderResponse {
         this.status = status;
     }
 
-    public BigDecimal getTotalAmount() {
+    public Money getTotalAmount() {
         return totalAmount;
     }
 
-    public void setTotalAmount(BigDecimal totalAmount) {
+    public void setTotalAmount(Money totalAmount) {
         this.totalAmount = totalAmount;
     }
 
@@ -146,6 +148,21 @@ public class OrderResponse {
 
         return response;
     }
+
+    /**
+     * Strong entity tag of an order. Items never change after creation, so the last
+     * update timestamp (kept to the microsecond precision of the database) identifies
+     * the representation.
+     */
+    public static String eTag(Long id, LocalDateTime updatedAt) {
+        long updatedMicros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        return "\"" + id + "-" + Long.toHexString(updatedMicros) + "\"";
+    }
+
+    @JsonIgnore
+    public String getETag() {
+        return eTag(id, updatedAt);
+    }
 }
 
 // ========================
@@ -157,13 +174,13 @@ class OrderItemResponse {
     private Long productId;
     private String productName;
     private Integer quantity;
-    private BigDecimal price;
-    private BigDecimal subtotal;
+    private Money price;
+    private Money subtotal;
 
     public OrderItemResponse() {}
 
     public OrderItemResponse(Long id, Long productId, String productName,
-                             Integer quantity, BigDecimal price, BigDecimal subtotal) {
+                             Integer quantity, Money price, Money subtotal) {
         this.id = id;
         this.productId = productId;
         this.productName = productName;
@@ -206,19 +223,19 @@ class OrderItemResponse {
         this.quantity = quantity;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(BigDecimal price) {
+    public void setPrice(Money price) {
         this.price = price;
     }
 
-    public BigDecimal getSubtotal() {
+    public Money getSubtotal() {
         return subtotal;
     }
 
-    public void setSubtotal(BigDecimal subtotal) {
+    public void setSubtotal(Money subtotal) {
         this.subtotal = subtotal;
     }
 
@@ -0,0 +1,31 @@
+package com.ecommerce.orderservice.dto;
+
+import com.ecommerce.orderservice.model.OrderStatus;
+
+/**
+ * The columns a status transition needs, read without loading the order and its items.
+ */
+public class OrderStatusView {
+
+    private final Long id;
+    private final String customerEmail;
+    private final OrderStatus status;
+
+    public OrderStatusView(Long id, String customerEmail, OrderStatus status) {
+        this.id = id;
+        this.customerEmail = customerEmail;
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.orderservice.exception;
+
+public class InventoryUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public InventoryUnavailableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.orderservice.exception;
+
+/**
+ * Some of the changes a reader asked for are past the feed's retention and have been
+ * purged, so following the feed from there would silently skip them.
+ */
+public class OrderChangesExpiredException extends RuntimeException {
+    public OrderChangesExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,266 @@
+package com.ecommerce.orderservice.feed;
+
+import com.ecommerce.common.datasource.ReadWriteRoutingDataSource;
+import com.ecommerce.orderservice.dto.OrderChangeResponse;
+import com.ecommerce.orderservice.dto.OrderChangesResponse;
+import com.ecommerce.orderservice.exception.OrderChangesExpiredException;
+import com.ecommerce.orderservice.model.OrderChange;
+import com.ecommerce.orderservice.model.OrderChangeSequence;
+import com.ecommerce.orderservice.model.OrderChangeType;
+import com.ecommerce.orderservice.model.OrderStatus;
+import com.ecommerce.orderservice.repository.OrderChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sequenced feed of order creations and status changes, so downstream systems can sync
+ * incrementally instead of diffing the full order list.
+ *
+ * Writers append to {@code order_changes} inside their own transaction. Sequence numbers
+ * come from a single-row counter that is incremented as the transaction's last statement;
+ * its row lock is held until commit, so a reader that has seen {@code seq = n} can never
+ * later find a committed change below {@code n}.
+ *
+ * Sequence numbers therefore have no holes until the retention purge removes old changes;
+ * a reader whose position is behind the oldest kept change gets
+ * {@link OrderChangesExpiredException} rather than a page that silently skips some.
+ *
+ * Readers that are caught up may wait for the next change. Commits on this instance wake
+ * them at once; commits on other instances are picked up by polling the counter.
+ */
+@Service
+public class OrderChangeFeed implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderChangeFeed.class);
+
+    private static final String SEED_SQL = "INSERT INTO order_change_sequence (id, last_seq) "
+            + "SELECT ?, COALESCE(MAX(seq), 0) FROM order_changes";
+
+    private static final String INCREMENT_SQL = "UPDATE order_change_sequence SET last_seq = last_seq + ? WHERE id = ?";
+
+    private static final String LAST_SEQ_SQL = "SELECT last_seq FROM order_change_sequence WHERE id = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO order_changes (seq, order_id, customer_email, change_type, status, changed_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final AtomicLong latestSeq = new AtomicLong();
+
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderChangeRepository orderChangeRepository;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor taskExecutor;
+
+    @Value("${orders.changes.max-wait:25s}")
+    private Duration maxWait;
+
+    @Value("${orders.changes.retention:7d}")
+    private Duration retention;
+
+    /**
+     * Seeds the counter before the web server takes requests, since writers cannot insert
+     * it themselves without aborting their transaction on a concurrent insert.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Long> existing = jdbcTemplate.queryForList(LAST_SEQ_SQL, Long.class, OrderChangeSequence.ID);
+        if (existing.isEmpty()) {
+            try {
+                jdbcTemplate.update(SEED_SQL, OrderChangeSequence.ID);
+            } catch (DuplicateKeyException e) {
+                // Another instance seeded it first
+            }
+        }
+        latestSeq.set(jdbcTemplate.queryForObject(LAST_SEQ_SQL, Long.class, OrderChangeSequence.ID));
+        logger.info("Order change feed at sequence {}", latestSeq.get());
+    }
+
+    /**
+     * Appends one change per order to the feed. Must run inside the writing transaction,
+     * as late as possible: the counter stays locked until that transaction ends.
+     *
+     * @param customerEmails customer email by order id, in the order to number the changes
+     */
+    public void record(OrderChangeType changeType, OrderStatus status, Map<Long, String> customerEmails) {
+        if (customerEmails.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Order changes must be recorded inside the writing transaction");
+        }
+
+        List<Map.Entry<Long, String>> orders = List.copyOf(customerEmails.entrySet());
+        jdbcTemplate.update(INCREMENT_SQL, orders.size(), OrderChangeSequence.ID);
+        long last = jdbcTemplate.queryForObject(LAST_SEQ_SQL, Long.class, OrderChangeSequence.ID);
+        long first = last - orders.size() + 1;
+
+        Timestamp changedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                statement.setLong(1, first + i);
+                statement.setLong(2, orders.get(i).getKey());
+                statement.setString(3, orders.get(i).getValue());
+                statement.setString(4, changeType.name());
+                statement.setString(5, status.name());
+                statement.setTimestamp(6, changedAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return orders.size();
+            }
+        });
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                advance(last);
+            }
+        });
+    }
+
+    /**
+     * Changes after {@code after}, oldest first. If there are none, waits up to
+     * {@code wait} (capped at the configured maximum) for the next one; an empty page
+     * means the wait ran out.
+     *
+     * @throws OrderChangesExpiredException if changes after {@code after} have been purged
+     */
+    public CompletableFuture<OrderChangesResponse> changesAfter(long after, int limit, Duration wait) {
+        OrderChangesResponse page = load(after, limit);
+        if (!page.getChanges().isEmpty() || wait.isZero() || wait.isNegative()) {
+            return CompletableFuture.completedFuture(page);
+        }
+
+        Waiter waiter = new Waiter(after, new CompletableFuture<>());
+        waiters.add(waiter);
+        // A commit between the load above and add() would otherwise go unnoticed
+        if (latestSeq.get() > after) {
+            wake(waiter);
+        }
+        long timeoutMillis = Math.min(wait.toMillis(), maxWait.toMillis());
+        return waiter.signal()
+                .completeOnTimeout(Boolean.FALSE, timeoutMillis, TimeUnit.MILLISECONDS)
+                .thenApplyAsync(changed -> {
+                    waiters.remove(waiter);
+                    return changed ? load(after, limit) : new OrderChangesResponse(List.of(), after);
+                }, taskExecutor);
+    }
+
+    /**
+     * Whether no change after {@code after} has been purged yet, for readers that only see
+     * some of the changes and so cannot spot a hole in the sequence themselves.
+     */
+    public boolean retainsChangesAfter(long after) {
+        long known = latestSeq.get();
+        Long oldest = ReadWriteRoutingDataSource.onPrimary(orderChangeRepository::findOldestSeq);
+        // Nothing kept at all: only a reader that had seen every known change missed none
+        return oldest != null ? after >= oldest - 1 : after >= known;
+    }
+
+    public long getLatestSeq() {
+        return latestSeq.get();
+    }
+
+    public int getWaiting() {
+        return waiters.size();
+    }
+
+    /**
+     * Notices changes committed by other instances while someone is waiting.
+     */
+    @Scheduled(fixedDelayString = "${orders.changes.poll-interval:1000}")
+    public void pollForRemoteChanges() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        advance(jdbcTemplate.queryForObject(LAST_SEQ_SQL, Long.class, OrderChangeSequence.ID));
+    }
+
+    @Scheduled(cron = "${orders.changes.retention-cron:0 30 3 * * *}")
+    public void purgeExpiredChanges() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int deleted = jdbcTemplate.update("DELETE FROM order_changes WHERE changed_at < ?", Timestamp.valueOf(cutoff));
+        logger.info("Purged {} order changes older than {}", deleted, cutoff);
+    }
+
+    /**
+     * Reads on the primary: a replica may not have the changes a waiter was woken for.
+     */
+    private OrderChangesResponse load(long after, int limit) {
+        // Read before the query: every change up to here has committed, so it is found unless purged
+        long known = latestSeq.get();
+        List<OrderChange> page = ReadWriteRoutingDataSource.onPrimary(() ->
+                orderChangeRepository.findAfter(after, PageRequest.ofSize(limit)));
+        if (page.isEmpty() ? after < known : !isContiguous(after, page)) {
+            throw new OrderChangesExpiredException("Order changes after sequence " + after
+                    + " are no longer kept; reload the orders and follow the feed from sequence " + known);
+        }
+        List<OrderChangeResponse> changes = page.stream()
+                .map(OrderChangeResponse::fromEntity)
+                .toList();
+        long next = changes.isEmpty() ? after : changes.get(changes.size() - 1).getSeq();
+        return new OrderChangesResponse(changes, next);
+    }
+
+    private static boolean isContiguous(long after, List<OrderChange> page) {
+        long expected = after + 1;
+        for (OrderChange change : page) {
+            if (change.getSeq() != expected++) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void advance(long seq) {
+        latestSeq.accumulateAndGet(seq, Math::max);
+        for (Waiter waiter : waiters) {
+            if (waiter.after() < seq) {
+                wake(waiter);
+            }
+        }
+    }
+
+    private void wake(Waiter waiter) {
+        if (waiters.remove(waiter)) {
+            waiter.signal().complete(Boolean.TRUE);
+        }
+    }
+
+    private record Waiter(long after, CompletableFuture<Boolean> signal) {
+    }
+}
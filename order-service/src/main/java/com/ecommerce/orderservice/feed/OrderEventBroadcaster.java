@@ -0,0 +1,326 @@
+package com.ecommerce.orderservice.feed;
+
+import com.ecommerce.common.datasource.ReadWriteRoutingDataSource;
+import com.ecommerce.orderservice.cache.CustomerOrderCache;
+import com.ecommerce.orderservice.dto.OrderChangeResponse;
+import com.ecommerce.orderservice.dto.OrderChangesResponse;
+import com.ecommerce.orderservice.exception.OrderChangesExpiredException;
+import com.ecommerce.orderservice.model.OrderChange;
+import com.ecommerce.orderservice.repository.OrderChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Pushes order changes to Server-Sent Event subscribers of one order or one customer.
+ *
+ * A single tail of the {@link OrderChangeFeed} serves every subscriber: while anyone is
+ * subscribed, the broadcaster long-polls the feed and hands each change to the
+ * subscriptions for its order and its customer, so the cost per change does not grow
+ * with the number of idle connections. Idle connections hold no thread.
+ *
+ * Customers are matched by normalised email, as in {@link CustomerOrderCache}, so a
+ * subscriber gets the changes of every order placed under any spelling of its address.
+ *
+ * Event ids are feed sequence numbers. A client reconnecting with {@code Last-Event-ID}
+ * first gets the changes it missed, read from the feed, then the live ones. One that has
+ * missed too many, or changes that are no longer kept, is told to reload instead.
+ */
+@Service
+public class OrderEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventBroadcaster.class);
+
+    /** As long as the feed allows; see {@code orders.changes.max-wait}. */
+    private static final Duration TAIL_WAIT = Duration.ofMinutes(5);
+
+    private final Map<Long, Set<Subscription>> byOrder = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscription>> byCustomer = new ConcurrentHashMap<>();
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean tailing = new AtomicBoolean();
+    private volatile long cursor;
+
+    @Autowired
+    private OrderChangeFeed orderChangeFeed;
+
+    @Autowired
+    private OrderChangeRepository orderChangeRepository;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor taskExecutor;
+
+    @Value("${orders.events.emitter-timeout:30m}")
+    private Duration emitterTimeout;
+
+    @Value("${orders.events.replay-limit:500}")
+    private int replayLimit;
+
+    @Value("${orders.events.batch-size:500}")
+    private int batchSize;
+
+    @Value("${orders.events.queue-capacity:64}")
+    private int queueCapacity;
+
+    public SseEmitter subscribeToOrder(Long orderId, Long lastEventId) {
+        return subscribe(byOrder, orderId, lastEventId,
+                after -> orderChangeRepository.findForOrderAfter(orderId, after, PageRequest.ofSize(replayLimit)));
+    }
+
+    public SseEmitter subscribeToCustomer(String email, Long lastEventId) {
+        String customer = CustomerOrderCache.normalize(email);
+        return subscribe(byCustomer, customer, lastEventId,
+                after -> orderChangeRepository.findForNormalizedCustomerAfter(customer, after, PageRequest.ofSize(replayLimit)));
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Keeps idle connections from being closed by proxies, and finds the dead ones. Only
+     * queues the heartbeats, so a stalled client cannot hold up the scheduler.
+     */
+    @Scheduled(fixedDelayString = "${orders.events.heartbeat-interval:15000}")
+    public void sendHeartbeats() {
+        for (Subscription subscription : subscriptions) {
+            subscription.send(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private <K> SseEmitter subscribe(Map<K, Set<Subscription>> index, K key, Long lastEventId,
+                                     Function<Long, List<OrderChange>> missedAfter) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        boolean resuming = lastEventId != null;
+        long startAfter = resuming ? lastEventId : orderChangeFeed.getLatestSeq();
+        Subscription subscription = new Subscription(emitter, startAfter, resuming);
+
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscription);
+        subscriptions.add(subscription);
+        Runnable unsubscribe = () -> {
+            subscriptions.remove(subscription);
+            index.computeIfPresent(key, (k, set) -> {
+                set.remove(subscription);
+                return set.isEmpty() ? null : set;
+            });
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        startTailing();
+
+        if (resuming) {
+            // Registered first, so changes committed while the replay is read are queued, not lost
+            List<OrderChangeResponse> missed = ReadWriteRoutingDataSource.onPrimary(() -> missedAfter.apply(lastEventId))
+                    .stream()
+                    .map(OrderChangeResponse::fromEntity)
+                    .toList();
+            // Checked after the read: the purge only moves forward, so the replay lost nothing if this holds
+            boolean complete = missed.size() < replayLimit && orderChangeFeed.retainsChangesAfter(lastEventId);
+            subscription.replay(missed, !complete);
+        } else {
+            subscription.send(SseEmitter.event().comment("subscribed"));
+        }
+        return emitter;
+    }
+
+    private void startTailing() {
+        if (tailing.compareAndSet(false, true)) {
+            cursor = orderChangeFeed.getLatestSeq();
+            tail();
+        }
+    }
+
+    private void tail() {
+        if (subscriptions.isEmpty()) {
+            tailing.set(false);
+            // A subscriber that arrived after the check must not be left without a tail
+            if (subscriptions.isEmpty() || !tailing.compareAndSet(false, true)) {
+                return;
+            }
+        }
+        CompletableFuture<OrderChangesResponse> next;
+        try {
+            next = orderChangeFeed.changesAfter(cursor, batchSize, TAIL_WAIT);
+        } catch (RuntimeException e) {
+            next = CompletableFuture.failedFuture(e);
+        }
+        next.whenCompleteAsync((page, error) -> {
+            if (error != null && unwrap(error) instanceof OrderChangesExpiredException) {
+                // The tail fell behind the retention window; nobody can be caught up change by change
+                logger.warn("Order change feed tail fell behind retention, resetting subscribers");
+                subscriptions.forEach(Subscription::reset);
+                cursor = orderChangeFeed.getLatestSeq();
+                tail();
+                return;
+            }
+            if (error != null) {
+                logger.warn("Reading the order change feed failed, retrying: {}", error.getMessage());
+                CompletableFuture.delayedExecutor(1, TimeUnit.SECONDS, taskExecutor).execute(this::tail);
+                return;
+            }
+            dispatch(page.getChanges());
+            cursor = page.getNext();
+            tail();
+        }, taskExecutor);
+    }
+
+    private void dispatch(List<OrderChangeResponse> changes) {
+        for (OrderChangeResponse change : changes) {
+            deliver(byOrder.get(change.getOrderId()), change);
+            deliver(byCustomer.get(CustomerOrderCache.normalize(change.getCustomerEmail())), change);
+        }
+    }
+
+    private void deliver(Set<Subscription> targets, OrderChangeResponse change) {
+        if (targets != null) {
+            for (Subscription subscription : targets) {
+                subscription.offer(change);
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static SseEmitter.SseEventBuilder event(OrderChangeResponse change) {
+        return SseEmitter.event()
+                .id(String.valueOf(change.getSeq()))
+                .name(change.getChangeType().name())
+                .data(change, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * One connected client. Events are queued and written by one task at a time on the task
+     * executor, so a slow client holds up neither the tail nor the heartbeat; one that lets
+     * {@code queueCapacity} live events pile up is dropped and resumes with Last-Event-ID
+     * when it reconnects. While a replay is pending, live changes are held back so the
+     * client sees every change once and in sequence order.
+     */
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Deque<SseEmitter.SseEventBuilder> outbox = new ArrayDeque<>();
+        private long lastSeq;
+        private List<OrderChangeResponse> pending;
+        private boolean draining;
+        private boolean closing;
+
+        Subscription(SseEmitter emitter, long lastSeq, boolean replaying) {
+            this.emitter = emitter;
+            this.lastSeq = lastSeq;
+            this.pending = replaying ? new ArrayList<>() : null;
+        }
+
+        synchronized void offer(OrderChangeResponse change) {
+            if (pending != null) {
+                pending.add(change);
+            } else if (change.getSeq() > lastSeq) {
+                lastSeq = change.getSeq();
+                send(event(change));
+            }
+        }
+
+        synchronized void replay(List<OrderChangeResponse> missed, boolean incomplete) {
+            if (incomplete) {
+                // Too far behind to catch up change by change
+                reset();
+                return;
+            }
+            // Not bounded by the queue capacity: the replay limit already caps it
+            for (List<OrderChangeResponse> changes : List.of(missed, pending)) {
+                for (OrderChangeResponse change : changes) {
+                    if (change.getSeq() > lastSeq) {
+                        lastSeq = change.getSeq();
+                        outbox.add(event(change));
+                    }
+                }
+            }
+            pending = null;
+            scheduleDrain();
+        }
+
+        synchronized void reset() {
+            if (!closing) {
+                outbox.add(SseEmitter.event().name("RESET").data("Too many missed changes; reload and subscribe again"));
+                closing = true;
+                scheduleDrain();
+            }
+        }
+
+        synchronized void send(SseEmitter.SseEventBuilder event) {
+            if (closing) {
+                return;
+            }
+            if (outbox.size() >= queueCapacity) {
+                logger.info("Dropping an event stream subscriber {} events behind", outbox.size());
+                outbox.clear();
+                closing = true;
+                return;
+            }
+            outbox.add(event);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining && !outbox.isEmpty()) {
+                draining = true;
+                taskExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            SseEmitter.SseEventBuilder event;
+            while ((event = next()) != null) {
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    synchronized (this) {
+                        outbox.clear();
+                        closing = true;
+                        draining = false;
+                    }
+                    // Client went away; the completion callback unsubscribes it
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+
+        private synchronized SseEmitter.SseEventBuilder next() {
+            SseEmitter.SseEventBuilder event = outbox.poll();
+            if (event == null) {
+                draining = false;
+                if (closing) {
+                    emitter.complete();
+                }
+            }
+            return event;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ecommerce.orderservice.limiter;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of requests in flight, adapting the cap to observed latency (AIMD).
+ *
+ * A request that completes within the latency target while the limit is in use raises
+ * the limit by one per limit's worth of requests. A slow or failed request cuts it by the
+ * backoff ratio, at most once per latency target, so a burst of slow responses that all
+ * started under the old limit counts as one signal. Requests over the limit are
+ * rejected at once instead of waiting for a thread or a connection.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private double estimate;
+    private volatile int limit;
+    private long lastDecrease = System.nanoTime();
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      Duration latencyTarget, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Invalid concurrency limits for " + name);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTarget.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.estimate = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        this.limit = (int) estimate;
+    }
+
+    /**
+     * @return whether the request may proceed; if so, {@link #release} must follow
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param elapsedNanos how long the request took
+     * @param failed       whether the request failed in a way that points to overload
+     */
+    public void release(long elapsedNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (failed) {
+            dropped.increment();
+        }
+        synchronized (this) {
+            if (failed || elapsedNanos > latencyTargetNanos) {
+                long now = System.nanoTime();
+                if (now - lastDecrease >= latencyTargetNanos) {
+                    lastDecrease = now;
+                    estimate = Math.max(minLimit, estimate * backoffRatio);
+                }
+            } else if (inFlightBefore * 2 >= limit) {
+                // Only grow while the limit is actually being used
+                estimate = Math.min(maxLimit, estimate + 1.0 / estimate);
+            }
+            limit = (int) estimate;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("limit", limit);
+        stats.put("minLimit", minLimit);
+        stats.put("maxLimit", maxLimit);
+        stats.put("inFlight", inFlight.get());
+        stats.put("accepted", accepted.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("failed", dropped.sum());
+        return stats;
+    }
+}
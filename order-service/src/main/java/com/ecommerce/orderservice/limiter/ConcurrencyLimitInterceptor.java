@@ -0,0 +1,124 @@
+package com.ecommerce.orderservice.limiter;
+
+import com.ecommerce.orderservice.exception.ConcurrencyLimitExceededException;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sheds order API requests once the adaptive limit for their kind is reached, so excess
+ * load is turned away with a 429 before it queues on Tomcat threads and the connection
+ * pool. Reads and writes have separate limiters: a burst of order creation does not
+ * starve order lookups, and the other way round.
+ *
+ * Only for requests that complete on the request thread; long-polling and event stream
+ * endpoints are not registered with this interceptor.
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitInterceptor.class);
+
+    private static final String LIMITER_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+    private static final String STARTED_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".started";
+
+    private AdaptiveConcurrencyLimiter readLimiter;
+    private AdaptiveConcurrencyLimiter writeLimiter;
+
+    @Value("${orders.limiter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${orders.limiter.read.initial-limit:100}")
+    private int readInitialLimit;
+
+    @Value("${orders.limiter.read.min-limit:10}")
+    private int readMinLimit;
+
+    @Value("${orders.limiter.read.max-limit:400}")
+    private int readMaxLimit;
+
+    @Value("${orders.limiter.read.latency-target:200ms}")
+    private Duration readLatencyTarget;
+
+    @Value("${orders.limiter.write.initial-limit:20}")
+    private int writeInitialLimit;
+
+    @Value("${orders.limiter.write.min-limit:2}")
+    private int writeMinLimit;
+
+    @Value("${orders.limiter.write.max-limit:40}")
+    private int writeMaxLimit;
+
+    @Value("${orders.limiter.write.latency-target:1s}")
+    private Duration writeLatencyTarget;
+
+    @Value("${orders.limiter.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${orders.limiter.retry-after:1s}")
+    private Duration retryAfter;
+
+    @PostConstruct
+    void init() {
+        readLimiter = new AdaptiveConcurrencyLimiter("read", readInitialLimit, readMinLimit, readMaxLimit,
+                readLatencyTarget, backoffRatio);
+        writeLimiter = new AdaptiveConcurrencyLimiter("write", writeInitialLimit, writeMinLimit, writeMaxLimit,
+                writeLatencyTarget, backoffRatio);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        AdaptiveConcurrencyLimiter limiter = isRead(request) ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            logger.warn("Shedding {} {}: {} limit of {} reached", request.getMethod(), request.getRequestURI(),
+                    limiter.getName(), limiter.getLimit());
+            throw new ConcurrencyLimitExceededException(
+                    "Too many concurrent " + limiter.getName() + " requests, retry later",
+                    Math.max(1, retryAfter.toSeconds()));
+        }
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(STARTED_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object limiter = request.getAttribute(LIMITER_ATTRIBUTE);
+        if (limiter == null) {
+            return;
+        }
+        request.removeAttribute(LIMITER_ATTRIBUTE);
+        long elapsed = System.nanoTime() - (Long) request.getAttribute(STARTED_ATTRIBUTE);
+        // 4xx are the client's doing and say nothing about our capacity
+        boolean failed = ex != null || response.getStatus() >= 500;
+        ((AdaptiveConcurrencyLimiter) limiter).release(elapsed, failed);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("read", readLimiter.stats());
+        stats.put("write", writeLimiter.stats());
+        return stats;
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+}
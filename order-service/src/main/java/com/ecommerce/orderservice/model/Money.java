@@ -0,0 +1,203 @@
+package com.ecommerce.orderservice.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * An amount of money as a whole number of minor units (cents) of a currency.
+ *
+ * Prices, subtotals and totals are computed on longs, without the allocations of
+ * {@link BigDecimal} arithmetic; amounts are only turned into decimals where they are
+ * stored ({@link MoneyConverter}) and in API responses, which keep showing them as
+ * decimal numbers such as {@code 19.99}.
+ */
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+@Schema(type = "number", example = "19.99")
+public final class Money implements Comparable<Money> {
+
+    /** Orders are priced in a single currency; the scale of the amount columns matches it. */
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
+
+    public static final Money ZERO = new Money(0, DEFAULT_CURRENCY);
+
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000};
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return ofMinor(minorUnits, DEFAULT_CURRENCY);
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        if (currency.getDefaultFractionDigits() < 0 || currency.getDefaultFractionDigits() >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Unsupported currency: " + currency);
+        }
+        return minorUnits == 0 && currency.equals(DEFAULT_CURRENCY) ? ZERO : new Money(minorUnits, currency);
+    }
+
+    /**
+     * @throws ArithmeticException if the amount has more decimals than the currency
+     */
+    public static Money of(BigDecimal amount) {
+        return ofMinor(amount.movePointRight(DEFAULT_CURRENCY.getDefaultFractionDigits()).longValueExact());
+    }
+
+    /**
+     * Parses a decimal amount such as {@code "19.99"}, {@code "20"} or {@code "19.9"}
+     * without going through {@link BigDecimal}. Amounts with more decimals than the
+     * currency has, or in exponent notation, are rounded half up, as the database does.
+     *
+     * @throws NumberFormatException if the text is not a decimal number
+     * @throws ArithmeticException if the amount does not fit in a long of minor units
+     */
+    public static Money parse(CharSequence amount) {
+        int fractionDigits = DEFAULT_CURRENCY.getDefaultFractionDigits();
+        int length = amount.length();
+        int i = 0;
+        boolean negative = false;
+        if (i < length && (amount.charAt(i) == '-' || amount.charAt(i) == '+')) {
+            negative = amount.charAt(i) == '-';
+            i++;
+        }
+        long units = 0;
+        int decimals = -1;
+        boolean digits = false;
+        for (; i < length; i++) {
+            char c = amount.charAt(i);
+            if (c == '.' && decimals < 0) {
+                decimals = 0;
+            } else if (c >= '0' && c <= '9' && decimals < fractionDigits) {
+                if (units > (Long.MAX_VALUE - 9) / 10) {
+                    return parseSlow(amount);
+                }
+                units = units * 10 + (c - '0');
+                digits = true;
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else {
+                return parseSlow(amount);
+            }
+        }
+        if (!digits) {
+            throw new NumberFormatException("Not an amount: " + amount);
+        }
+        long scale = POWERS_OF_TEN[fractionDigits - Math.max(decimals, 0)];
+        if (units > Long.MAX_VALUE / scale) {
+            return parseSlow(amount);
+        }
+        units *= scale;
+        return ofMinor(negative ? -units : units);
+    }
+
+    private static Money parseSlow(CharSequence amount) {
+        BigDecimal decimal = new BigDecimal(amount.toString())
+                .setScale(DEFAULT_CURRENCY.getDefaultFractionDigits(), RoundingMode.HALF_UP);
+        return of(decimal);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public Money plus(Money other) {
+        checkSameCurrency(other);
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money times(int quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity), currency);
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        checkSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && minorUnits == other.minorUnits && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits) * 31 + currency.hashCode();
+    }
+
+    /**
+     * The plain decimal amount, e.g. {@code "19.99"} or {@code "-0.05"}.
+     */
+    @Override
+    public String toString() {
+        int fractionDigits = currency.getDefaultFractionDigits();
+        if (fractionDigits == 0) {
+            return Long.toString(minorUnits);
+        }
+        long power = POWERS_OF_TEN[fractionDigits];
+        long whole = Math.abs(minorUnits / power);
+        long fraction = Math.abs(minorUnits % power);
+        StringBuilder text = new StringBuilder(24);
+        if (minorUnits < 0) {
+            text.append('-');
+        }
+        text.append(whole).append('.');
+        for (long p = power / 10; p > fraction && p > 1; p /= 10) {
+            text.append('0');
+        }
+        return text.append(fraction).toString();
+    }
+
+    private void checkSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Cannot combine " + currency + " and " + other.currency + " amounts");
+        }
+    }
+
+    public static final class Serializer extends JsonSerializer<Money> {
+
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(value.toString());
+        }
+    }
+
+    public static final class Deserializer extends JsonDeserializer<Money> {
+
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return parse(p.getText());
+        }
+    }
+}
@@ -1,10 +1,8 @@
 package com.ecommerce.orderservice.model;
 
 import jakarta.persistence.*;
-import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -34,13 +32,14 @@ public class Order {
     private OrderStatus status = OrderStatus.PENDING;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalAmount = BigDecimal.ZERO;
+    @Convert(converter = MoneyConverter.class)
+    private Money totalAmount = Money.ZERO;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL,
             orphanRemoval = true, fetch = FetchType.EAGER)
     private List<OrderItem> orderItems = new ArrayList<>();
 
-    @CreationTimestamp
+    // Partition key of orders and order_items; set in onCreate() so items can copy it
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -52,7 +51,7 @@ public class Order {
 
     public Order(Long id, String customerName, String customerEmail,
                  String customerPhone, String shippingAddress,
-                 OrderStatus status, BigDecimal totalAmount,
+                 OrderStatus status, Money totalAmount,
                  List<OrderItem> orderItems, LocalDateTime createdAt,
                  LocalDateTime updatedAt) {
         this.id = id;
@@ -119,11 +118,11 @@ public class Order {
         this.status = status;
     }
 
-    public BigDecimal getTotalAmount() {
+    public Money getTotalAmount() {
         return totalAmount;
     }
 
-    public void setTotalAmount(BigDecimal totalAmount) {
+    public void setTotalAmount(Money totalAmount) {
         this.totalAmount = totalAmount;
     }
 
@@ -147,14 +146,23 @@ public class Order {
     //   BUSINESS METHODS
     // ========================
 
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
     public void addOrderItem(OrderItem item) {
         orderItems.add(item);
         item.setOrder(this);
     }
 
     public void calculateTotalAmount() {
-        this.totalAmount = orderItems.stream()
-                .map(OrderItem::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Money total = Money.ZERO;
+        for (OrderItem item : orderItems) {
+            total = total.plus(item.getSubtotal());
+        }
+        this.totalAmount = total;
     }
 }
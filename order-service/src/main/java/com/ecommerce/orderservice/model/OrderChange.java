@@ -0,0 +1,90 @@
+package com.ecommerce.orderservice.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the order change feed. {@code seq} is assigned from
+ * {@link OrderChangeSequence} in commit order, so it only ever grows.
+ */
+@Entity
+@Table(name = "order_changes", indexes = {
+        @Index(name = "idx_order_changes_changed_at", columnList = "changed_at")
+})
+public class OrderChange {
+
+    @Id
+    private Long seq;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private String customerEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderChangeType changeType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    public OrderChange() {}
+
+    // ========================
+    //     GETTERS & SETTERS
+    // ========================
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public void setCustomerEmail(String customerEmail) {
+        this.customerEmail = customerEmail;
+    }
+
+    public OrderChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(OrderChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
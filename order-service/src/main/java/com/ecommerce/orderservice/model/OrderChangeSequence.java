@@ -0,0 +1,43 @@
+package com.ecommerce.orderservice.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Single-row counter behind {@link OrderChange#getSeq()}. Writers increment it as the
+ * last statement of their transaction and hold its row lock until commit, so sequence
+ * numbers become visible in the order they were handed out.
+ */
+@Entity
+@Table(name = "order_change_sequence")
+public class OrderChangeSequence {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long lastSeq;
+
+    public OrderChangeSequence() {}
+
+    // ========================
+    //     GETTERS & SETTERS
+    // ========================
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Long getLastSeq() {
+        return lastSeq;
+    }
+
+    public void setLastSeq(Long lastSeq) {
+        this.lastSeq = lastSeq;
+    }
+}
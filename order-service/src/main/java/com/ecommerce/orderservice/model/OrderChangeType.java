@@ -0,0 +1,6 @@
+package com.ecommerce.orderservice.model;
+
+public enum OrderChangeType {
+    CREATED,
+    STATUS_CHANGED
+}
@@ -2,7 +2,7 @@ package com.ecommerce.orderservice.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "order_items")
@@ -22,20 +22,29 @@ public class OrderItem {
     private Integer quantity;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal price;
+    @Convert(converter = MoneyConverter.class)
+    private Money price;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal subtotal;
+    @Convert(converter = MoneyConverter.class)
+    private Money subtotal;
 
+    // The foreign key to a partitioned orders table must include the partition key,
+    // so it is declared in database-schema.sql on (order_id, order_created_at)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "order_id", nullable = false)
+    @JoinColumn(name = "order_id", nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @JsonIgnore
     private Order order;
 
+    @Column(name = "order_created_at", nullable = false, updatable = false)
+    @JsonIgnore
+    private LocalDateTime orderCreatedAt;
+
     public OrderItem() {}
 
     public OrderItem(Long id, Long productId, String productName,
-                     Integer quantity, BigDecimal price, BigDecimal subtotal,
+                     Integer quantity, Money price, Money subtotal,
                      Order order) {
         this.id = id;
         this.productId = productId;
@@ -82,19 +91,19 @@ public class OrderItem {
         this.quantity = quantity;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(BigDecimal price) {
+    public void setPrice(Money price) {
         this.price = price;
     }
 
-    public BigDecimal getSubtotal() {
+    public Money getSubtotal() {
         return subtotal;
     }
 
-    public void setSubtotal(BigDecimal subtotal) {
+    public void setSubtotal(Money subtotal) {
         this.subtotal = subtotal;
     }
 
@@ -110,7 +119,20 @@ public class OrderItem {
     // BUSINESS LOGIC
     // ========================
 
+    public LocalDateTime getOrderCreatedAt() {
+        return orderCreatedAt;
+    }
+
+    /**
+     * Copies the order's partition key; the order is persisted, and its creation time
+     * set, before the cascade reaches its items.
+     */
+    @PrePersist
+    protected void onCreate() {
+        orderCreatedAt = order.getCreatedAt();
+    }
+
     public void calculateSubtotal() {
-        this.subtotal = this.price.multiply(BigDecimal.valueOf(this.quantity));
+        this.subtotal = this.price.times(this.quantity);
     }
 }
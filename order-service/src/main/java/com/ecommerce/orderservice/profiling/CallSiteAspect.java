@@ -0,0 +1,50 @@
+package com.ecommerce.orderservice.profiling;
+
+import com.ecommerce.common.repository.RepositoryNames;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells the {@link ConnectionProfiler} which {@code @Transactional} service method or
+ * repository method is running. Ordered before the transaction interceptor so that the
+ * commit, and the connection release, happen inside the call site.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "profiling.jdbc.enabled", havingValue = "true", matchIfMissing = true)
+public class CallSiteAspect {
+
+    @Autowired
+    private ConnectionProfiler profiler;
+
+    @Around("within(com.ecommerce.orderservice..*) && "
+            + "(@annotation(org.springframework.transaction.annotation.Transactional) "
+            + "|| @within(org.springframework.transaction.annotation.Transactional))")
+    public Object aroundTransactional(ProceedingJoinPoint joinPoint) throws Throwable {
+        String site = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        return proceedWithin(site, joinPoint);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object aroundRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = RepositoryNames.of(joinPoint.getThis().getClass());
+        return proceedWithin(repository + "." + joinPoint.getSignature().getName(), joinPoint);
+    }
+
+    private Object proceedWithin(String site, ProceedingJoinPoint joinPoint) throws Throwable {
+        profiler.enterSite(site);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            profiler.exitSite();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.ecommerce.orderservice.profiling;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Records how long JDBC connections are held and how long statements take, per call
+ * site: the {@code @Transactional} service method or repository method that was running.
+ *
+ * A connection is charged to the outermost call site active when it was fetched, which
+ * is the method owning the transaction; a statement is charged to the innermost one,
+ * usually the repository method that issued it.
+ */
+@Component
+public class ConnectionProfiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionProfiler.class);
+
+    static final String UNATTRIBUTED = "(unattributed)";
+
+    private static final ThreadLocal<Deque<String>> callSites = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final Map<String, SiteStats> sites = new ConcurrentHashMap<>();
+
+    @Value("${profiling.jdbc.slow-query-threshold:200ms}")
+    private Duration slowQueryThreshold;
+
+    public void enterSite(String site) {
+        callSites.get().push(site);
+    }
+
+    public void exitSite() {
+        callSites.get().pop();
+    }
+
+    String owningSite() {
+        String site = callSites.get().peekLast();
+        return site != null ? site : UNATTRIBUTED;
+    }
+
+    String currentSite() {
+        String site = callSites.get().peekFirst();
+        return site != null ? site : UNATTRIBUTED;
+    }
+
+    void recordConnectionHeld(String site, long nanos) {
+        stats(site).connectionHeld.record(nanos);
+    }
+
+    void recordStatement(String site, String sql, List<String> parameterShape, long nanos) {
+        stats(site).statements.record(nanos);
+        if (nanos >= slowQueryThreshold.toNanos()) {
+            logger.warn("Slow query in {} took {} ms: {} parameters={}",
+                    site, TimeUnit.NANOSECONDS.toMillis(nanos), sql, parameterShape);
+        }
+    }
+
+    /**
+     * Call sites by total connection hold time, longest first.
+     */
+    public List<SiteSummary> topConnectionHogs(int limit) {
+        return top(limit, stats -> stats.connectionHeld);
+    }
+
+    /**
+     * Call sites by total statement time, longest first.
+     */
+    public List<SiteSummary> topStatements(int limit) {
+        return top(limit, stats -> stats.statements);
+    }
+
+    private List<SiteSummary> top(int limit, Function<SiteStats, TimingHistogram> timing) {
+        return sites.entrySet().stream()
+                .filter(entry -> timing.apply(entry.getValue()).count() > 0)
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, SiteStats> entry) -> timing.apply(entry.getValue()).totalNanos()).reversed())
+                .limit(limit)
+                .map(entry -> new SiteSummary(entry.getKey(),
+                        entry.getValue().connectionHeld.summary(), entry.getValue().statements.summary()))
+                .toList();
+    }
+
+    private SiteStats stats(String site) {
+        return sites.computeIfAbsent(site, ignored -> new SiteStats());
+    }
+
+    private static final class SiteStats {
+        final TimingHistogram connectionHeld = new TimingHistogram();
+        final TimingHistogram statements = new TimingHistogram();
+    }
+
+    /**
+     * Durations in microseconds with three significant digits; the exact total is kept
+     * alongside so rankings do not depend on bucket rounding.
+     */
+    private static final class TimingHistogram {
+
+        private final Histogram histogram = new ConcurrentHistogram(3);
+        private final LongAdder totalNanos = new LongAdder();
+
+        void record(long nanos) {
+            histogram.recordValue(Math.max(0, nanos / 1_000));
+            totalNanos.add(nanos);
+        }
+
+        long count() {
+            return histogram.getTotalCount();
+        }
+
+        long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        Timing summary() {
+            long count = histogram.getTotalCount();
+            double totalMs = totalNanos.sum() / 1_000_000.0;
+            return new Timing(count, totalMs, count == 0 ? 0 : totalMs / count,
+                    histogram.getValueAtPercentile(50) / 1_000.0,
+                    histogram.getValueAtPercentile(99) / 1_000.0,
+                    histogram.getMaxValue() / 1_000.0);
+        }
+    }
+
+    public record Timing(long count, double totalMs, double meanMs, double p50Ms, double p99Ms, double maxMs) {
+    }
+
+    public record SiteSummary(String site, Timing connectionHeld, Timing statements) {
+    }
+}
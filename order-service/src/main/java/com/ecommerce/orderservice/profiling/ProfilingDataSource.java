@@ -0,0 +1,102 @@
+package com.ecommerce.orderservice.profiling;
+
+import com.ecommerce.common.jdbc.InterceptingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Wraps the connections of a {@link DataSource} to report their hold time and the
+ * duration of every statement to a {@link ConnectionProfiler}.
+ *
+ * Hold time runs from the physical fetch to {@code close()}. Behind a
+ * {@code LazyConnectionDataSourceProxy} that is from the first statement of a
+ * transaction to its end, which is the time the connection is missing from the pool.
+ */
+public class ProfilingDataSource extends InterceptingDataSource {
+
+    private final ConnectionProfiler profiler;
+
+    public ProfilingDataSource(DataSource targetDataSource, ConnectionProfiler profiler) {
+        super(targetDataSource);
+        this.profiler = profiler;
+    }
+
+    @Override
+    protected ConnectionInterceptor interceptConnection(Connection connection) {
+        return new ProfiledConnection();
+    }
+
+    private final class ProfiledConnection implements ConnectionInterceptor {
+
+        private final String site = profiler.owningSite();
+        private final long fetchedAt = System.nanoTime();
+
+        @Override
+        public StatementInterceptor interceptStatement(Statement statement, String sql) {
+            return new ProfiledStatement(sql);
+        }
+
+        @Override
+        public void closing() {
+            profiler.recordConnectionHeld(site, System.nanoTime() - fetchedAt);
+        }
+    }
+
+    private final class ProfiledStatement implements StatementInterceptor {
+
+        private final String sql;
+        private final List<String> parameterShape = new ArrayList<>();
+
+        ProfiledStatement(String sql) {
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Method method, Object[] args, JdbcCall call) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                long started = System.nanoTime();
+                try {
+                    return call.proceed();
+                } finally {
+                    String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                    profiler.recordStatement(profiler.currentSite(), executed,
+                            Collections.unmodifiableList(new ArrayList<>(parameterShape)),
+                            System.nanoTime() - started);
+                }
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index && index >= 1) {
+                recordParameter(index, name, args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameterShape.clear();
+            }
+            return call.proceed();
+        }
+
+        /**
+         * Keeps the type of a bind parameter, and the length of strings, never its value.
+         */
+        private void recordParameter(int index, String setter, Object value) {
+            String shape;
+            if (setter.equals("setNull") || value == null) {
+                shape = "null";
+            } else if (value instanceof String text) {
+                shape = "String(" + text.length() + ")";
+            } else if (setter.equals("setObject")) {
+                shape = value.getClass().getSimpleName();
+            } else {
+                shape = setter.substring(3);
+            }
+            while (parameterShape.size() < index) {
+                parameterShape.add("?");
+            }
+            parameterShape.set(index - 1, shape);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.orderservice.repository;
+
+import com.ecommerce.orderservice.model.OrderChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrderChangeRepository extends JpaRepository<OrderChange, Long> {
+
+    @Query("SELECT MIN(c.seq) FROM OrderChange c")
+    Long findOldestSeq();
+
+    @Query("SELECT c FROM OrderChange c WHERE c.seq > :after ORDER BY c.seq")
+    List<OrderChange> findAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("SELECT c FROM OrderChange c WHERE c.seq > :after AND c.orderId = :orderId ORDER BY c.seq")
+    List<OrderChange> findForOrderAfter(@Param("orderId") Long orderId, @Param("after") long after, Pageable pageable);
+
+    @Query("SELECT c FROM OrderChange c WHERE c.seq > :after AND lower(c.customerEmail) = :email ORDER BY c.seq")
+    List<OrderChange> findForNormalizedCustomerAfter(@Param("email") String email, @Param("after") long after, Pageable pageable);
+}
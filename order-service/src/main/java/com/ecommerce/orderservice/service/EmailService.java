@@ -1,5 +1,8 @@
 package com.ecommerce.orderservice.service;
 
+import com.ecommerce.orderservice.model.Money;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
@@ -9,9 +12,11 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Service
 public class EmailService {
@@ -26,14 +31,33 @@ public class EmailService {
     @Value("${app.mail.from.name}")
     private String fromName;
 
-    public EmailService(JavaMailSender mailSender) {
+    /**
+     * Jakarta Mail's SMTPTransport does its socket I/O inside synchronized methods, which
+     * pins a virtual thread to its carrier for the whole send. With virtual threads on,
+     * sends run on this small platform-thread pool and the virtual thread only waits.
+     */
+    private final ExecutorService smtpExecutor;
+
+    public EmailService(JavaMailSender mailSender,
+                        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                        @Value("${app.mail.smtp-threads:4}") int smtpThreads) {
         this.mailSender = mailSender;
+        this.smtpExecutor = virtualThreads ? Executors.newFixedThreadPool(smtpThreads) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (smtpExecutor != null) {
+            smtpExecutor.shutdown();
+        }
     }
 
+    @Observed(name = "notification.send", contextualName = "send order confirmation email",
+            lowCardinalityKeyValues = {"channel", "email"})
     public void sendOrderConfirmationEmail(
             String toEmail,
             Long orderId,
-            BigDecimal totalAmount,
+            Money totalAmount,
             String status,
             List<Map<String, Object>> items
     ) {
@@ -45,28 +69,9 @@ public class EmailService {
             helper.setFrom(fromAddress, fromName);
             helper.setSubject("Order Confirmation - Order #" + orderId);
 
-            StringBuilder html = new StringBuilder();
-            html.append("<h2>Thank you for your order!</h2>");
-            html.append("<p>Your order <strong>#").append(orderId)
-                    .append("</strong> is currently <strong>").append(status).append("</strong>.</p>");
-            html.append("<p>Total Amount: <strong>").append(totalAmount).append("</strong></p>");
-
-            if (items != null && !items.isEmpty()) {
-                html.append("<h3>Items:</h3>");
-                html.append("<ul>");
-                for (Map<String, Object> item : items) {
-                    html.append("<li>")
-                            .append("Product ID: ").append(item.get("productId"))
-                            .append(", Quantity: ").append(item.get("quantity"))
-                            .append(", Price: ").append(item.get("price"))
-                            .append("</li>");
-                }
-                html.append("</ul>");
-            }
-
-            helper.setText(html.toString(), true);
+            helper.setText(renderOrderConfirmationHtml(orderId, totalAmount, status, items), true);
 
-            mailSender.send(message);
+            send(message);
             logger.info("Order confirmation email sent to {}", toEmail);
         } catch (MessagingException e) {
             logger.error("Error while building order confirmation email", e);
@@ -75,4 +80,55 @@ public class EmailService {
             logger.error("Error while sending order confirmation email", e);
         }
     }
+
+    private void send(MimeMessage message) throws Exception {
+        if (smtpExecutor == null) {
+            mailSender.send(message);
+            return;
+        }
+        try {
+            smtpExecutor.submit(() -> mailSender.send(message)).get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    /**
+     * Renders the HTML body of the order confirmation email.
+     */
+    public static String renderOrderConfirmationHtml(
+            Long orderId,
+            Money totalAmount,
+            String status,
+            List<Map<String, Object>> items
+    ) {
+        StringBuilder html = new StringBuilder();
+        html.append("<h2>Thank you for your order!</h2>");
+        html.append("<p>Your order <strong>#").append(orderId)
+                .append("</strong> is currently <strong>").append(status).append("</strong>.</p>");
+        html.append("<p>Total Amount: <strong>").append(totalAmount).append("</strong></p>");
+
+        if (items != null && !items.isEmpty()) {
+            html.append("<h3>Items:</h3>");
+            html.append("<ul>");
+            for (Map<String, Object> item : items) {
+                html.append("<li>")
+                        .append("Product ID: ").append(item.get("productId"))
+                        .append(", Quantity: ").append(item.get("quantity"))
+                        .append(", Price: ").append(itemPrice(item, totalAmount))
+                        .append("</li>");
+            }
+            html.append("</ul>");
+        }
+        return html.toString();
+    }
+
+    private static Object itemPrice(Map<String, Object> item, Money totalAmount) {
+        Object minorUnits = item.get("priceMinor");
+        if (minorUnits == null) {
+            // Event published before amounts were sent in minor units
+            return item.get("price");
+        }
+        return Money.ofMinor(((Number) minorUnits).longValue(), totalAmount.getCurrency());
+    }
 }
@@ -1,12 +1,13 @@
 package com.ecommerce.orderservice.service;
 
+import com.ecommerce.orderservice.model.Money;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.util.Currency;
 import java.util.List;
 import java.util.Map;
 
@@ -23,12 +24,12 @@ public class OrderMessageConsumer {
 
     @RabbitListener(queues = "${rabbitmq.queue.order}")
     public void consumeOrderMessage(Map<String, Object> orderEvent) {
-        logger.info("Received order event from queue: {}", orderEvent);
-
         Long orderId = ((Number) orderEvent.get("orderId")).longValue();
+        logger.info("Received order event for orderId={}", orderId);
+
         String customerEmail = (String) orderEvent.get("customerEmail");
         String status = (String) orderEvent.get("status");
-        BigDecimal totalAmount = new BigDecimal(orderEvent.get("totalAmount").toString());
+        Money totalAmount = totalAmount(orderEvent);
 
         @SuppressWarnings("unchecked")
         List<Map<String, Object>> items = (List<Map<String, Object>>) orderEvent.get("items");
@@ -43,7 +44,6 @@ public class OrderMessageConsumer {
                 status,
                 items
         );
-        logger.info(customerPhone);
 
         smsService.sendOrderConfirmationSms(
                 customerPhone,
@@ -54,6 +54,19 @@ public class OrderMessageConsumer {
 
         logger.info("Order processing (email + SMS) completed for orderId={}", orderId);
     }
+
+    /**
+     * Events published before amounts were sent in minor units carry a decimal
+     * {@code totalAmount} instead.
+     */
+    private static Money totalAmount(Map<String, Object> orderEvent) {
+        Object minorUnits = orderEvent.get("totalAmountMinor");
+        if (minorUnits == null) {
+            return Money.parse(orderEvent.get("totalAmount").toString());
+        }
+        return Money.ofMinor(((Number) minorUnits).longValue(),
+                Currency.getInstance((String) orderEvent.get("currency")));
+    }
 }
 
 
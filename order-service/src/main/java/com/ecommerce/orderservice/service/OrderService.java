@@ -1,30 +1,46 @@
 package com.ecommerce.orderservice.service;
 
+import com.ecommerce.orderservice.cache.CustomerOrderCache;
+import com.ecommerce.orderservice.client.InventoryClient;
+import com.ecommerce.orderservice.datasource.ReadYourWritesGuard;
+import com.ecommerce.orderservice.dto.BulkStatusUpdateRejection;
+import com.ecommerce.orderservice.dto.BulkStatusUpdateResponse;
 import com.ecommerce.orderservice.dto.OrderItemRequest;
 import com.ecommerce.orderservice.dto.OrderRequest;
 import com.ecommerce.orderservice.dto.OrderResponse;
-import com.ecommerce.orderservice.dto.ReserveStockRequest;
+import com.ecommerce.orderservice.dto.OrderStatusView;
 import com.ecommerce.orderservice.exception.InsufficientStockException;
 import com.ecommerce.orderservice.exception.InvalidOrderStatusException;
 import com.ecommerce.orderservice.exception.OrderNotFoundException;
-import com.ecommerce.orderservice.exception.ProductNotFoundException;
+import com.ecommerce.orderservice.feed.OrderChangeFeed;
+import com.ecommerce.orderservice.model.Money;
 import com.ecommerce.orderservice.model.Order;
+import com.ecommerce.orderservice.model.OrderChangeType;
 import com.ecommerce.orderservice.model.OrderItem;
 import com.ecommerce.orderservice.model.OrderStatus;
 import com.ecommerce.orderservice.repository.OrderRepository;
+import com.ecommerce.orderservice.storage.OrderArchive;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,19 +55,43 @@ public class OrderService {
     private RabbitTemplate rabbitTemplate;
 
     @Autowired
-    private RestTemplate restTemplate;
+    private InventoryClient inventoryClient;
+
+    @Autowired
+    private ReadYourWritesGuard readYourWritesGuard;
+
+    @Autowired
+    private OrderArchive orderArchive;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    private OrderChangeFeed orderChangeFeed;
+
+    @Autowired
+    private CustomerOrderCache customerOrderCache;
 
     @Value("${rabbitmq.exchange.order}")
     private String orderExchange;
 
-    @Value("${inventory.url}")
-    private String inventoryUrl;
-
     @Value("${rabbitmq.routing.key.order}")
     private String orderRoutingKey;
 
-    @Value("${inventory.service.url}")
-    private String inventoryServiceUrl;
+    @Value("${orders.bulk-status.chunk-size:1000}")
+    private int bulkStatusChunkSize;
+
+    @PostConstruct
+    void init() {
+        // For reads done outside a @Transactional method: read-only, so they go to the replica
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
 
     @Transactional
     public OrderResponse createOrder(OrderRequest request) {
@@ -65,11 +105,7 @@ public class OrderService {
         order.setStatus(OrderStatus.PENDING);
 
         for (OrderItemRequest itemRequest : request.getItems()) {
-            Map<String, Object> product = getProductDetails(itemRequest.getProductId());
-            
-            if (product == null) {
-                throw new ProductNotFoundException("Product not found with ID: " + itemRequest.getProductId());
-            }
+            Map<String, Object> product = inventoryClient.getProduct(itemRequest.getProductId());
 
             Integer availableStock = (Integer) product.get("stockQuantity");
             if (availableStock < itemRequest.getQuantity()) {
@@ -83,38 +119,54 @@ public class OrderService {
             orderItem.setProductId(itemRequest.getProductId());
             orderItem.setProductName((String) product.get("name"));
             orderItem.setQuantity(itemRequest.getQuantity());
-            orderItem.setPrice(new BigDecimal(product.get("price").toString()));
+            orderItem.setPrice(Money.parse(product.get("price").toString()));
             orderItem.calculateSubtotal();
             
             order.addOrderItem(orderItem);
-            ReserveStockRequest reserve = new ReserveStockRequest(
-                    itemRequest.getProductId(),
-                    itemRequest.getQuantity()
-            );
-
-            restTemplate.postForObject(
-                    inventoryUrl + "/api/inventory/reserve-stock",
-                    reserve,
-                    String.class
-            );
+            inventoryClient.reserveStock(itemRequest.getProductId(), itemRequest.getQuantity());
         }
 
         order.calculateTotalAmount();
         Order savedOrder = orderRepository.save(order);
+        recordWrite(savedOrder);
 
         publishOrderEvent(savedOrder);
+        orderChangeFeed.record(OrderChangeType.CREATED, savedOrder.getStatus(),
+                Map.of(savedOrder.getId(), savedOrder.getCustomerEmail()));
+
+        OrderResponse response = OrderResponse.fromEntity(savedOrder);
+        customerOrderCache.orderSaved(response);
 
         logger.info("Order created successfully with ID: {}", savedOrder.getId());
-        return OrderResponse.fromEntity(savedOrder);
+        return response;
     }
 
+    /**
+     * Falls back to the archive for orders no longer in the database. Not transactional,
+     * so no connection is held while the archive is read.
+     */
     public OrderResponse getOrderById(Long id) {
         logger.info("Fetching order with ID: {}", id);
-        Order order = orderRepository.findById(id)
+        return readYourWritesGuard.read(orderKey(id), () -> orderRepository.findById(id))
+                .map(OrderResponse::fromEntity)
+                .or(() -> orderArchive.find(id))
+                .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + id));
+    }
+
+    /**
+     * Entity tag of an order, read without loading the order or its items. Only the
+     * database read runs in a transaction; the archive fallback runs after it.
+     */
+    public String getOrderETag(Long id) {
+        Optional<LocalDateTime> updatedAt = readYourWritesGuard.read(orderKey(id),
+                () -> readOnlyTransaction.execute(status -> orderRepository.findUpdatedAtById(id)));
+        return updatedAt
+                .or(() -> orderArchive.find(id).map(OrderResponse::getUpdatedAt))
+                .map(lastUpdate -> OrderResponse.eTag(id, lastUpdate))
                 .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + id));
-        return OrderResponse.fromEntity(order);
     }
 
+    @Transactional(readOnly = true)
     public List<OrderResponse> getAllOrders() {
         logger.info("Fetching all orders");
         return orderRepository.findAll().stream()
@@ -122,6 +174,7 @@ public class OrderService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<OrderResponse> getOrdersByStatus(OrderStatus status) {
         logger.info("Fetching orders with status: {}", status);
         return orderRepository.findByStatus(status).stream()
@@ -129,11 +182,21 @@ public class OrderService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Served from the customer order cache. Not transactional, so a cache hit does not
+     * open a transaction; a miss reads in a read-only one. Emails are matched
+     * case-insensitively.
+     */
     public List<OrderResponse> getOrdersByEmail(String email) {
         logger.info("Fetching orders for email: {}", email);
-        return orderRepository.findByCustomerEmail(email).stream()
-                .map(OrderResponse::fromEntity)
-                .collect(Collectors.toList());
+        return customerOrderCache.get(email, () -> {
+            List<Order> orders = readYourWritesGuard.read(customerKey(email),
+                    () -> readOnlyTransaction.execute(status ->
+                            orderRepository.findWithItemsByNormalizedEmail(CustomerOrderCache.normalize(email))));
+            return orders.stream()
+                    .map(OrderResponse::fromEntity)
+                    .collect(Collectors.toList());
+        });
     }
 
     @Transactional
@@ -146,27 +209,124 @@ public class OrderService {
         validateStatusTransition(order.getStatus(), newStatus);
 
         order.setStatus(newStatus);
-        Order updatedOrder = orderRepository.save(order);
+        // Flushed so the order row is locked before the change feed counter, as in the bulk update
+        Order updatedOrder = orderRepository.saveAndFlush(order);
+        recordWrite(updatedOrder);
+        orderChangeFeed.record(OrderChangeType.STATUS_CHANGED, newStatus, Map.of(id, updatedOrder.getCustomerEmail()));
+
+        OrderResponse response = OrderResponse.fromEntity(updatedOrder);
+        customerOrderCache.orderSaved(response);
 
         logger.info("Order status updated successfully for order ID: {}", id);
-        return OrderResponse.fromEntity(updatedOrder);
+        return response;
+    }
+
+    /**
+     * Moves many orders to {@code newStatus} without loading them: per chunk, one
+     * conditional {@code UPDATE} whose {@code WHERE} clause only matches orders in an
+     * allowed predecessor status. Orders that are missing or in another status are
+     * reported with the reason the single-order update would have given.
+     */
+    public BulkStatusUpdateResponse updateOrderStatuses(List<Long> orderIds, OrderStatus newStatus) {
+        logger.info("Updating {} orders to status: {}", orderIds.size(), newStatus);
+
+        // Ascending ids, so concurrent bulk updates lock rows in the same order
+        List<Long> ids = new ArrayList<>(new TreeSet<>(orderIds));
+        Set<OrderStatus> predecessors = allowedPredecessors(newStatus);
+        List<BulkStatusUpdateRejection> rejected = new ArrayList<>();
+        int updated = 0;
+
+        for (int from = 0; from < ids.size(); from += bulkStatusChunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + bulkStatusChunkSize, ids.size()));
+            updated += transactionTemplate.execute(status ->
+                    updateStatusChunk(chunk, newStatus, predecessors, rejected));
+        }
+
+        logger.info("Bulk status update to {}: {} updated, {} rejected", newStatus, updated, rejected.size());
+        return new BulkStatusUpdateResponse(newStatus, ids.size(), updated, rejected);
+    }
+
+    private int updateStatusChunk(List<Long> chunk, OrderStatus newStatus, Set<OrderStatus> predecessors,
+                                  List<BulkStatusUpdateRejection> rejected) {
+        Map<Long, OrderStatusView> views = new HashMap<>();
+        for (OrderStatusView view : orderRepository.findStatusViewsByIdIn(chunk)) {
+            views.put(view.getId(), view);
+        }
+
+        List<Long> expected = new ArrayList<>(chunk.size());
+        for (Long id : chunk) {
+            OrderStatusView view = views.get(id);
+            if (view == null) {
+                rejected.add(new BulkStatusUpdateRejection(id, null, "Order not found with ID: " + id));
+            } else if (!predecessors.contains(view.getStatus())) {
+                rejected.add(new BulkStatusUpdateRejection(id, view.getStatus(),
+                        transitionRejection(view.getStatus(), newStatus)));
+            } else {
+                expected.add(id);
+            }
+        }
+        if (expected.isEmpty()) {
+            return 0;
+        }
+
+        int updated = orderRepository.updateStatusByIdIn(expected, predecessors, newStatus, LocalDateTime.now());
+        if (updated < expected.size()) {
+            // Some orders changed status between the read and the update; the UPDATE's
+            // own condition kept them, so report whatever they hold now
+            List<Long> missed = orderRepository.findIdsByIdInAndStatusNot(expected, newStatus);
+            for (Long id : missed) {
+                rejected.add(new BulkStatusUpdateRejection(id, null, "Order status changed concurrently"));
+            }
+            expected.removeAll(missed);
+        }
+        Map<Long, String> customerEmails = new LinkedHashMap<>();
+        for (Long id : expected) {
+            String email = views.get(id).getCustomerEmail();
+            readYourWritesGuard.recordWrite(orderKey(id));
+            readYourWritesGuard.recordWrite(customerKey(email));
+            customerEmails.put(id, email);
+        }
+        orderChangeFeed.record(OrderChangeType.STATUS_CHANGED, newStatus, customerEmails);
+        customerOrderCache.evict(Set.copyOf(customerEmails.values()));
+        return expected.size();
     }
 
     private void validateStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
+        String rejection = transitionRejection(currentStatus, newStatus);
+        if (rejection != null) {
+            throw new InvalidOrderStatusException(rejection);
+        }
+    }
+
+    /**
+     * @return why {@code currentStatus -> newStatus} is not allowed, or {@code null} if it is
+     */
+    private String transitionRejection(OrderStatus currentStatus, OrderStatus newStatus) {
         if (currentStatus == OrderStatus.DELIVERED || currentStatus == OrderStatus.CANCELLED) {
-            throw new InvalidOrderStatusException(
-                "Cannot update status for orders in " + currentStatus + " state"
-            );
+            return "Cannot update status for orders in " + currentStatus + " state";
         }
 
         int currentOrder = getStatusOrder(currentStatus);
         int newOrder = getStatusOrder(newStatus);
 
         if (newStatus != OrderStatus.CANCELLED && newOrder < currentOrder) {
-            throw new InvalidOrderStatusException(
-                "Invalid status transition from " + currentStatus + " to " + newStatus
-            );
+            return "Invalid status transition from " + currentStatus + " to " + newStatus;
+        }
+        return null;
+    }
+
+    /**
+     * The statuses {@code newStatus} may be reached from, i.e. the transition matrix
+     * column the bulk update puts in its {@code WHERE} clause.
+     */
+    private Set<OrderStatus> allowedPredecessors(OrderStatus newStatus) {
+        Set<OrderStatus> predecessors = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            if (transitionRejection(status, newStatus) == null) {
+                predecessors.add(status);
+            }
         }
+        return predecessors;
     }
 
     private int getStatusOrder(OrderStatus status) {
@@ -179,40 +339,28 @@ public class OrderService {
         };
     }
 
-    private Map<String, Object> getProductDetails(Long productId) {
-        try {
-            String url = inventoryServiceUrl + "/products/" + productId;
-            logger.info("Fetching product details from: {}", url);
-            return restTemplate.getForObject(url, Map.class);
-        } catch (Exception e) {
-            logger.error("Error fetching product details: ", e);
-            return null;
-        }
+    /**
+     * Keeps the next reads of this order, and of its customer's orders, on the primary.
+     */
+    private void recordWrite(Order order) {
+        readYourWritesGuard.recordWrite(orderKey(order.getId()));
+        readYourWritesGuard.recordWrite(customerKey(order.getCustomerEmail()));
     }
 
-    private void publishOrderEvent(Order order) {
-        try {
-            Map<String, Object> orderEvent = new HashMap<>();
-            orderEvent.put("orderId", order.getId());
-            orderEvent.put("customerEmail", order.getCustomerEmail());
-            orderEvent.put("status", order.getStatus().toString());
-            orderEvent.put("totalAmount", order.getTotalAmount());
-
-            orderEvent.put("customerPhone", order.getCustomerPhone());
-
-            List<Map<String, Object>> items = order.getOrderItems().stream()
-                    .map(item -> {
-                        Map<String, Object> itemMap = new HashMap<>();
-                        itemMap.put("productId", item.getProductId());
-                        itemMap.put("quantity", item.getQuantity());
-                        itemMap.put("price", item.getPrice());
-                        itemMap.put("subtotal", item.getSubtotal());
-                        return itemMap;
-                    })
-                    .collect(Collectors.toList());
+    private static String orderKey(Long orderId) {
+        return "order:" + orderId;
+    }
 
-            orderEvent.put("items", items);
+    /**
+     * Read-your-writes key of a customer's orders; emails differing only in case share it.
+     */
+    public static String customerKey(String email) {
+        return "customer:" + CustomerOrderCache.normalize(email);
+    }
 
+    private void publishOrderEvent(Order order) {
+        try {
+            Map<String, Object> orderEvent = buildOrderEvent(order);
             rabbitTemplate.convertAndSend(orderExchange, orderRoutingKey, orderEvent);
             logger.info("Order event published for order ID: {}", order.getId());
         } catch (Exception e) {
@@ -220,4 +368,33 @@ public class OrderService {
         }
     }
 
+    /**
+     * Builds the message payload published to RabbitMQ for an order. Amounts are sent as
+     * whole minor units of the given currency, so consumers need no decimal parsing.
+     */
+    public static Map<String, Object> buildOrderEvent(Order order) {
+        Map<String, Object> orderEvent = new HashMap<>();
+        orderEvent.put("orderId", order.getId());
+        orderEvent.put("customerEmail", order.getCustomerEmail());
+        orderEvent.put("status", order.getStatus().toString());
+        orderEvent.put("totalAmountMinor", order.getTotalAmount().getMinorUnits());
+        orderEvent.put("currency", order.getTotalAmount().getCurrency().getCurrencyCode());
+
+        orderEvent.put("customerPhone", order.getCustomerPhone());
+
+        List<Map<String, Object>> items = order.getOrderItems().stream()
+                .map(item -> {
+                    Map<String, Object> itemMap = new HashMap<>();
+                    itemMap.put("productId", item.getProductId());
+                    itemMap.put("quantity", item.getQuantity());
+                    itemMap.put("priceMinor", item.getPrice().getMinorUnits());
+                    itemMap.put("subtotalMinor", item.getSubtotal().getMinorUnits());
+                    return itemMap;
+                })
+                .collect(Collectors.toList());
+
+        orderEvent.put("items", items);
+        return orderEvent;
+    }
+
 }
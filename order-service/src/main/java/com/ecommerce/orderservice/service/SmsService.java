@@ -1,5 +1,7 @@
 package com.ecommerce.orderservice.service;
 
+import com.ecommerce.orderservice.model.Money;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,7 +9,6 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
-import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -47,10 +48,12 @@ public class SmsService {
     /**
      * Sends an order confirmation SMS via Brevo Transactional SMS API.
      */
+    @Observed(name = "notification.send", contextualName = "send order confirmation sms",
+            lowCardinalityKeyValues = {"channel", "sms"})
     public void sendOrderConfirmationSms(
             String phoneNumber,
             Long orderId,
-            BigDecimal totalAmount,
+            Money totalAmount,
             String status
     ) {
         if (phoneNumber == null || phoneNumber.isBlank()) {
@@ -59,13 +62,7 @@ public class SmsService {
         }
 
         try {
-            // SMS text (keep it short; 160 chars per SMS segment)
-            String content = String.format(
-                    "Hi! Your order #%d is %s. Total: %s. Thank you!",
-                    orderId,
-                    status,
-                    totalAmount
-            );
+            String content = renderOrderConfirmationSms(orderId, totalAmount, status);
 
             Map<String, Object> body = new HashMap<>();
             body.put("sender", sender);
@@ -96,4 +93,16 @@ public class SmsService {
             // You can throw a runtime exception here to let RabbitMQ retry if you configure retries
         }
     }
+
+    /**
+     * Renders the SMS text (keep it short; 160 chars per SMS segment).
+     */
+    public static String renderOrderConfirmationSms(Long orderId, Money totalAmount, String status) {
+        return String.format(
+                "Hi! Your order #%d is %s. Total: %s. Thank you!",
+                orderId,
+                status,
+                totalAmount
+        );
+    }
 }
@@ -0,0 +1,183 @@
+package com.ecommerce.orderservice.storage;
+
+import com.ecommerce.orderservice.dto.OrderResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Closed orders moved out of the database, as gzip-compressed NDJSON files on local disk.
+ *
+ * Each file holds one archiving batch sorted by order id, and its name carries the id
+ * range, so a lookup only opens the files whose range covers the id and stops reading
+ * once it has passed it.
+ */
+@Component
+public class OrderArchive {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchive.class);
+
+    private static final Pattern FILE_NAME = Pattern.compile("orders-(\\d+)-(\\d+)-(\\d+)\\.ndjson\\.gz");
+    private static final String ID_PREFIX = "{\"id\":";
+
+    private final List<ArchiveFile> files = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${orders.archive.directory:./order-archive}")
+    private Path directory;
+
+    @PostConstruct
+    public void loadFileIndex() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, "orders-*.ndjson.gz")) {
+            for (Path path : entries) {
+                Matcher matcher = FILE_NAME.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    files.add(new ArchiveFile(path, Long.parseLong(matcher.group(1)),
+                            Long.parseLong(matcher.group(2)), Long.parseLong(matcher.group(3))));
+                }
+            }
+        }
+        logger.info("Order archive: {} files in {}", files.size(), directory.toAbsolutePath());
+    }
+
+    /**
+     * Writes one batch of orders, sorted by id, to a new file. The file only becomes
+     * visible to lookups once it is complete.
+     */
+    public void write(List<OrderResponse> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        long firstId = orders.get(0).getId();
+        long lastId = orders.get(orders.size() - 1).getId();
+        long writtenAt = System.currentTimeMillis();
+        Path target = directory.resolve("orders-" + firstId + "-" + lastId + "-" + writtenAt + ".ndjson.gz");
+        Path partial = directory.resolve(target.getFileName() + ".tmp");
+
+        try {
+            Files.createDirectories(directory);
+            try (FileOutputStream out = new FileOutputStream(partial.toFile())) {
+                GZIPOutputStream gzip = new GZIPOutputStream(out);
+                Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+                for (OrderResponse order : orders) {
+                    writer.write(objectMapper.writeValueAsString(order));
+                    writer.write('\n');
+                }
+                writer.flush();
+                gzip.finish();
+                // The orders are deleted from the database next; they must be on disk first
+                out.getFD().sync();
+            }
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write order archive file " + target, e);
+        }
+        files.add(new ArchiveFile(target, firstId, lastId, writtenAt));
+    }
+
+    /**
+     * Looks an order up in the archive, newest file first.
+     */
+    public Optional<OrderResponse> find(Long id) {
+        List<ArchiveFile> candidates = files.stream()
+                .filter(file -> file.firstId() <= id && id <= file.lastId())
+                .sorted(Comparator.comparingLong(ArchiveFile::writtenAt).reversed())
+                .toList();
+        for (ArchiveFile file : candidates) {
+            try {
+                Optional<OrderResponse> order = find(file.path(), id);
+                if (order.isPresent()) {
+                    return order;
+                }
+            } catch (IOException e) {
+                logger.error("Could not read order archive file {}", file.path(), e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<OrderResponse> find(Path path, long id) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long lineId = leadingId(line);
+                if (lineId == id) {
+                    return Optional.of(objectMapper.readValue(line, OrderResponse.class));
+                }
+                if (lineId > id) {
+                    break;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the id without parsing the whole line; {@link OrderResponse} serializes it first.
+     */
+    private long leadingId(String line) throws IOException {
+        if (!line.startsWith(ID_PREFIX)) {
+            return objectMapper.readTree(line).path("id").asLong();
+        }
+        long id = 0;
+        for (int i = ID_PREFIX.length(); i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id;
+    }
+
+    public int fileCount() {
+        return files.size();
+    }
+
+    public long sizeInBytes() {
+        long bytes = 0;
+        for (ArchiveFile file : files) {
+            try {
+                bytes += Files.size(file.path());
+            } catch (IOException e) {
+                // Counted as empty; the lookup will report the file if it is really gone
+            }
+        }
+        return bytes;
+    }
+
+    private record ArchiveFile(Path path, long firstId, long lastId, long writtenAt) {
+    }
+}
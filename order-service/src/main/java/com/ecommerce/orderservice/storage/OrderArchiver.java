@@ -0,0 +1,90 @@
+package com.ecommerce.orderservice.storage;
+
+import com.ecommerce.orderservice.cache.CustomerOrderCache;
+import com.ecommerce.orderservice.dto.OrderResponse;
+import com.ecommerce.orderservice.model.OrderStatus;
+import com.ecommerce.orderservice.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Moves DELIVERED and CANCELLED orders that have not changed for the configured age
+ * from the database into the {@link OrderArchive}, one batch per file.
+ *
+ * Both statuses are final, so an order selected for archiving cannot change before it
+ * is deleted. A batch is deleted only after its file is on disk; a crash in between
+ * leaves the orders in both places, and the database copy wins on lookup.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.archive.enabled", havingValue = "true")
+public class OrderArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiver.class);
+
+    private static final Set<OrderStatus> CLOSED = EnumSet.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderArchive orderArchive;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CustomerOrderCache customerOrderCache;
+
+    @Value("${orders.archive.min-age:180d}")
+    private Duration minAge;
+
+    @Value("${orders.archive.batch-size:5000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${orders.archive.cron:0 0 3 * * *}")
+    public void archiveClosedOrders() {
+        LocalDateTime closedBefore = LocalDateTime.now().minus(minAge);
+        long started = System.nanoTime();
+        int archived = 0;
+
+        List<Long> ids;
+        do {
+            ids = orderRepository.findArchivableIds(CLOSED, closedBefore, PageRequest.ofSize(batchSize));
+            if (!ids.isEmpty()) {
+                archived += archiveBatch(ids);
+            }
+        } while (ids.size() == batchSize);
+
+        logger.info("Archived {} closed orders older than {} in {} ms",
+                archived, closedBefore, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private int archiveBatch(List<Long> ids) {
+        List<OrderResponse> orders = orderRepository.findWithItemsByIdIn(ids).stream()
+                .map(OrderResponse::fromEntity)
+                .collect(Collectors.toList());
+        orderArchive.write(orders);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.deleteItemsByOrderIdIn(ids);
+            orderRepository.deleteByIdIn(ids);
+            // Customer order listings only cover the database
+            customerOrderCache.evict(orders.stream().map(OrderResponse::getCustomerEmail).collect(Collectors.toSet()));
+        });
+        return orders.size();
+    }
+}
@@ -0,0 +1,215 @@
+package com.ecommerce.orderservice.feed;
+
+import com.ecommerce.orderservice.dto.OrderChangeResponse;
+import com.ecommerce.orderservice.dto.OrderChangesResponse;
+import com.ecommerce.orderservice.exception.OrderChangesExpiredException;
+import com.ecommerce.orderservice.model.OrderChange;
+import com.ecommerce.orderservice.model.OrderChangeSequence;
+import com.ecommerce.orderservice.model.OrderChangeType;
+import com.ecommerce.orderservice.model.OrderStatus;
+import com.ecommerce.orderservice.repository.OrderChangeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderChangeFeedTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private OrderChangeRepository orderChangeRepository;
+
+    @InjectMocks
+    private OrderChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feed, "taskExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(feed, "maxWait", Duration.ofSeconds(25));
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void numbersChangesUpToTheCounterAndPublishesThemOnCommit() throws Exception {
+        beginTransaction();
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(OrderChangeSequence.ID))).thenReturn(12L);
+        Map<Long, String> customerEmails = new LinkedHashMap<>();
+        customerEmails.put(7L, "a@example.com");
+        customerEmails.put(3L, "b@example.com");
+        customerEmails.put(9L, "c@example.com");
+
+        feed.record(OrderChangeType.STATUS_CHANGED, OrderStatus.SHIPPED, customerEmails);
+
+        verify(jdbcTemplate).update(anyString(), eq(3), eq(OrderChangeSequence.ID));
+        ArgumentCaptor<BatchPreparedStatementSetter> rows = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue().getBatchSize()).isEqualTo(3);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        for (int i = 0; i < 3; i++) {
+            rows.getValue().setValues(statement, i);
+        }
+        verify(statement).setLong(1, 10L);
+        verify(statement).setLong(2, 7L);
+        verify(statement).setLong(1, 11L);
+        verify(statement).setLong(2, 3L);
+        verify(statement).setLong(1, 12L);
+        verify(statement).setLong(2, 9L);
+
+        assertThat(feed.getLatestSeq()).isZero();
+        commit();
+        assertThat(feed.getLatestSeq()).isEqualTo(12L);
+    }
+
+    @Test
+    void refusesToRecordOutsideATransaction() {
+        assertThatThrownBy(() -> feed.record(OrderChangeType.CREATED, OrderStatus.PENDING, Map.of(1L, "a@example.com")))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void recordsNothingForNoOrders() {
+        feed.record(OrderChangeType.CREATED, OrderStatus.PENDING, Map.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void answersAtOnceWhenChangesAreAvailable() {
+        when(orderChangeRepository.findAfter(eq(5L), any())).thenReturn(List.of(change(6), change(7)));
+
+        CompletableFuture<OrderChangesResponse> page = feed.changesAfter(5, 10, Duration.ofSeconds(30));
+
+        assertThat(page).isDone();
+        assertThat(page.join().getChanges()).extracting(OrderChangeResponse::getSeq).containsExactly(6L, 7L);
+        assertThat(page.join().getNext()).isEqualTo(7L);
+        assertThat(feed.getWaiting()).isZero();
+    }
+
+    @Test
+    void wakesAWaiterWhenAChangeCommitsHere() {
+        when(orderChangeRepository.findAfter(eq(5L), any())).thenReturn(List.of(), List.of(change(6)));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(OrderChangeSequence.ID))).thenReturn(6L);
+
+        CompletableFuture<OrderChangesResponse> page = feed.changesAfter(5, 10, Duration.ofSeconds(30));
+        assertThat(page).isNotDone();
+        assertThat(feed.getWaiting()).isEqualTo(1);
+
+        beginTransaction();
+        feed.record(OrderChangeType.CREATED, OrderStatus.PENDING, Map.of(1L, "a@example.com"));
+        commit();
+
+        assertThat(page).isDone();
+        assertThat(page.join().getNext()).isEqualTo(6L);
+        assertThat(feed.getWaiting()).isZero();
+    }
+
+    @Test
+    void wakesOnlyTheWaitersBehindARemoteCommit() {
+        when(orderChangeRepository.findAfter(anyLong(), any())).thenReturn(List.of());
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(OrderChangeSequence.ID))).thenReturn(8L);
+
+        CompletableFuture<OrderChangesResponse> behind = feed.changesAfter(5, 10, Duration.ofSeconds(30));
+        CompletableFuture<OrderChangesResponse> ahead = feed.changesAfter(8, 10, Duration.ofSeconds(30));
+        feed.pollForRemoteChanges();
+
+        assertThat(behind).isDone();
+        assertThat(ahead).isNotDone();
+        assertThat(feed.getLatestSeq()).isEqualTo(8L);
+        assertThat(feed.getWaiting()).isEqualTo(1);
+    }
+
+    @Test
+    void returnsAnEmptyPageWhenTheWaitRunsOut() {
+        when(orderChangeRepository.findAfter(eq(5L), any())).thenReturn(List.of());
+
+        OrderChangesResponse page = feed.changesAfter(5, 10, Duration.ofMillis(50)).join();
+
+        assertThat(page.getChanges()).isEmpty();
+        assertThat(page.getNext()).isEqualTo(5L);
+        assertThat(feed.getWaiting()).isZero();
+    }
+
+    @Test
+    void refusesToSkipChangesThatWerePurged() {
+        when(orderChangeRepository.findAfter(eq(5L), any())).thenReturn(List.of(change(9), change(10)));
+
+        assertThatThrownBy(() -> feed.changesAfter(5, 10, Duration.ZERO))
+                .isInstanceOf(OrderChangesExpiredException.class);
+    }
+
+    @Test
+    void refusesAnEmptyPageBehindAKnownChange() {
+        ((AtomicLong) ReflectionTestUtils.getField(feed, "latestSeq")).set(12);
+        when(orderChangeRepository.findAfter(eq(5L), any())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> feed.changesAfter(5, 10, Duration.ofSeconds(30)))
+                .isInstanceOf(OrderChangesExpiredException.class);
+        assertThat(feed.getWaiting()).isZero();
+    }
+
+    @Test
+    void retainsChangesFromJustBeforeTheOldestKeptOne() {
+        when(orderChangeRepository.findOldestSeq()).thenReturn(20L);
+
+        assertThat(feed.retainsChangesAfter(19)).isTrue();
+        assertThat(feed.retainsChangesAfter(18)).isFalse();
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static OrderChange change(long seq) {
+        OrderChange change = new OrderChange();
+        change.setSeq(seq);
+        change.setOrderId(seq * 10);
+        change.setCustomerEmail("a@example.com");
+        change.setChangeType(OrderChangeType.CREATED);
+        change.setStatus(OrderStatus.PENDING);
+        change.setChangedAt(LocalDateTime.now());
+        return change;
+    }
+}
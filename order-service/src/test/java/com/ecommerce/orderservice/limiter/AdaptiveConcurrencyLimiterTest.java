@@ -0,0 +1,111 @@
+package com.ecommerce.orderservice.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration LONG_TARGET = Duration.ofHours(1);
+    private static final long FAST = 0;
+
+    @Test
+    void rejectsInvalidLimits() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("test", 10, 0, 20, LONG_TARGET, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("test", 10, 30, 20, LONG_TARGET, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("test", 10, 1, 20, LONG_TARGET, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void clampsTheInitialLimit() {
+        assertThat(new AdaptiveConcurrencyLimiter("test", 50, 1, 20, LONG_TARGET, 0.5).getLimit()).isEqualTo(20);
+        assertThat(new AdaptiveConcurrencyLimiter("test", 0, 2, 20, LONG_TARGET, 0.5).getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsRequestsOverTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 2, LONG_TARGET, 0.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(FAST, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.stats()).containsEntry("accepted", 3L).containsEntry("rejected", 1L);
+    }
+
+    @Test
+    void growsWhileTheLimitIsInUse() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10, LONG_TARGET, 0.5);
+
+        for (int round = 0; round < 200; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(FAST, false);
+            }
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void doesNotGrowWhileIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 1, 20, LONG_TARGET, 0.5);
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void backsOffOnSlowOrFailedRequestsDownToTheMinimum() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 2, 20, Duration.ofNanos(1), 0.5);
+
+        limiter.tryAcquire();
+        Thread.sleep(1);
+        limiter.release(0, true);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        limiter.tryAcquire();
+        Thread.sleep(1);
+        limiter.release(Duration.ofMillis(5).toNanos(), false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        Thread.sleep(1);
+        limiter.release(0, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.stats()).containsEntry("failed", 2L);
+    }
+
+    @Test
+    void cutsAtMostOncePerLatencyTarget() throws InterruptedException {
+        Duration target = Duration.ofMillis(100);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 1, 20, target, 0.5);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire();
+        }
+        Thread.sleep(target.toMillis() + 20);
+
+        // Three slow responses that all started under the old limit
+        for (int i = 0; i < 3; i++) {
+            limiter.release(target.toNanos() * 2, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+}
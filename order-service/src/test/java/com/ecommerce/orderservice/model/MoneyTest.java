@@ -0,0 +1,95 @@
+package com.ecommerce.orderservice.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void parsesPlainAmounts() {
+        assertThat(Money.parse("19.99").getMinorUnits()).isEqualTo(1999);
+        assertThat(Money.parse("19.9").getMinorUnits()).isEqualTo(1990);
+        assertThat(Money.parse("20").getMinorUnits()).isEqualTo(2000);
+        assertThat(Money.parse("20.").getMinorUnits()).isEqualTo(2000);
+        assertThat(Money.parse(".5").getMinorUnits()).isEqualTo(50);
+        assertThat(Money.parse("+1.05").getMinorUnits()).isEqualTo(105);
+        assertThat(Money.parse("-0.05").getMinorUnits()).isEqualTo(-5);
+        assertThat(Money.parse("0")).isSameAs(Money.ZERO);
+    }
+
+    @Test
+    void roundsExtraDecimalsHalfUp() {
+        assertThat(Money.parse("19.994").getMinorUnits()).isEqualTo(1999);
+        assertThat(Money.parse("19.995").getMinorUnits()).isEqualTo(2000);
+        assertThat(Money.parse("-0.005").getMinorUnits()).isEqualTo(-1);
+        assertThat(Money.parse("1E+2").getMinorUnits()).isEqualTo(10000);
+    }
+
+    @Test
+    void parsesTheLargestAmounts() {
+        assertThat(Money.parse("92233720368547758.07").getMinorUnits()).isEqualTo(Long.MAX_VALUE);
+        assertThat(Money.parse("-92233720368547758.08").getMinorUnits()).isEqualTo(Long.MIN_VALUE);
+        assertThat(Money.parse("92233720368547758").getMinorUnits()).isEqualTo(9223372036854775800L);
+    }
+
+    @Test
+    void rejectsAmountsThatDoNotFit() {
+        assertThatThrownBy(() -> Money.parse("922337203685477579"))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.parse("92233720368547758.08"))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.parse("92233720368547759"))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.parse("99999999999999999999999"))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void rejectsText() {
+        assertThatThrownBy(() -> Money.parse("")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("-")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse(".")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("1.2.3")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("12a")).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void formatsAsPlainDecimal() {
+        assertThat(Money.ofMinor(1999)).hasToString("19.99");
+        assertThat(Money.ofMinor(5)).hasToString("0.05");
+        assertThat(Money.ofMinor(-5)).hasToString("-0.05");
+        assertThat(Money.ofMinor(100)).hasToString("1.00");
+        assertThat(Money.ofMinor(0)).hasToString("0.00");
+        assertThat(Money.ofMinor(Long.MIN_VALUE)).hasToString("-92233720368547758.08");
+    }
+
+    @Test
+    void convertsToAndFromBigDecimal() {
+        assertThat(Money.parse("19.99").toBigDecimal()).isEqualTo(new BigDecimal("19.99"));
+        assertThat(Money.of(new BigDecimal("19.9")).getMinorUnits()).isEqualTo(1990);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("19.999")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void arithmeticFailsInsteadOfOverflowing() {
+        assertThat(Money.parse("19.99").times(3).plus(Money.parse("0.03"))).isEqualTo(Money.ofMinor(6000));
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE / 2).times(3))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void serializesAsJsonNumber() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertThat(objectMapper.writeValueAsString(Money.ofMinor(1990))).isEqualTo("19.90");
+        assertThat(objectMapper.readValue("19.9", Money.class)).isEqualTo(Money.ofMinor(1990));
+        assertThat(objectMapper.readValue("\"19.99\"", Money.class)).isEqualTo(Money.ofMinor(1999));
+    }
+}
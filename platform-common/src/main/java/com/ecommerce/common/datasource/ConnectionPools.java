@@ -0,0 +1,30 @@
+package com.ecommerce.common.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * The Hikari pools behind a {@link ReadWriteRoutingDataSource}, configured the same way
+ * in every service.
+ */
+public final class ConnectionPools {
+
+    private ConnectionPools() {
+    }
+
+    /**
+     * @param readOnly marks connections read-only, so the driver can send them to a replica
+     */
+    public static HikariDataSource create(String name, String driverClassName, String url, String username,
+                                          String password, int maxPoolSize, boolean readOnly) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setDriverClassName(driverClassName);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setReadOnly(readOnly);
+        return new HikariDataSource(config);
+    }
+}
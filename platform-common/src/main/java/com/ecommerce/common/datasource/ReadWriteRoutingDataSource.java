@@ -0,0 +1,76 @@
+package com.ecommerce.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for read-only transactions to the replica pool and everything else
+ * to the primary.
+ *
+ * The route is decided when a connection is fetched, so this must sit behind a
+ * {@code LazyConnectionDataSourceProxy}: the transaction manager opens its connection
+ * before the transaction is marked read-only, and the proxy defers the real fetch to
+ * the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> primaryRequired = new ThreadLocal<>();
+
+    private final Map<Route, LongAdder> connectionsRouted = new EnumMap<>(Route.class);
+
+    public ReadWriteRoutingDataSource() {
+        for (Route route : Route.values()) {
+            connectionsRouted.put(route, new LongAdder());
+        }
+    }
+
+    /**
+     * Routes to {@code replica} and {@code primary}, which may be the same database.
+     */
+    public static ReadWriteRoutingDataSource of(DataSource primary, DataSource replica) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        return routingDataSource;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !Boolean.TRUE.equals(primaryRequired.get()) ? Route.REPLICA : Route.PRIMARY;
+        connectionsRouted.get(route).increment();
+        return route;
+    }
+
+    /**
+     * Runs {@code action} with read-only transactions routed to the primary. Only affects
+     * transactions that have not run a statement yet.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = primaryRequired.get();
+        primaryRequired.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                primaryRequired.remove();
+            } else {
+                primaryRequired.set(previous);
+            }
+        }
+    }
+
+    public long getConnectionsRouted(Route route) {
+        return connectionsRouted.get(route).sum();
+    }
+}
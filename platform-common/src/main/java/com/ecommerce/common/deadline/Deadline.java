@@ -0,0 +1,77 @@
+package com.ecommerce.common.deadline;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The point in time by which the current request must be answered.
+ *
+ * Set for the request thread by {@link DeadlineInterceptor}; outgoing calls and JDBC
+ * statements made on that thread are given at most the time that is left, so work for
+ * a caller that has given up stops instead of running to completion.
+ */
+public final class Deadline {
+
+    /** Remaining budget in milliseconds, sent by clients and passed on between the services. */
+    public static final String HEADER = "X-Request-Timeout-Ms";
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAt;
+
+    private Deadline(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void set(Deadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Whether the current request has a deadline and it has passed.
+     */
+    public static boolean isCurrentExpired() {
+        Deadline deadline = CURRENT.get();
+        return deadline != null && deadline.isExpired();
+    }
+
+    /**
+     * Throws if the current request's deadline has passed.
+     *
+     * @param operation what was about to start, for the error message
+     */
+    public static void checkCurrent(String operation) {
+        if (isCurrentExpired()) {
+            throw new DeadlineExceededException("Request deadline exceeded before " + operation);
+        }
+    }
+
+    public Duration remaining() {
+        long nanos = expiresAt - System.nanoTime();
+        return nanos > 0 ? Duration.ofNanos(nanos) : Duration.ZERO;
+    }
+
+    public boolean isExpired() {
+        return expiresAt - System.nanoTime() <= 0;
+    }
+
+    /**
+     * {@code timeout}, shortened to the time left if that is less.
+     */
+    public Duration bound(Duration timeout) {
+        Duration remaining = remaining();
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+}
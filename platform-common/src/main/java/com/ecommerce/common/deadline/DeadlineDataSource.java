@@ -0,0 +1,65 @@
+package com.ecommerce.common.deadline;
+
+import com.ecommerce.common.jdbc.InterceptingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+
+/**
+ * Bounds every JDBC statement run for a request by the time left until its
+ * {@link Deadline}: the query timeout is set just before each execution, and a
+ * statement is not run at all once the deadline has passed. Statements on threads
+ * without a deadline are left as they are.
+ *
+ * JDBC query timeouts have whole-second resolution, so the bound is rounded up.
+ */
+public class DeadlineDataSource extends InterceptingDataSource {
+
+    public DeadlineDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    protected ConnectionInterceptor interceptConnection(Connection connection) {
+        return (statement, sql) -> new DeadlineStatement(statement);
+    }
+
+    private static final class DeadlineStatement implements StatementInterceptor {
+
+        private final Statement target;
+        /** Timeout set by the caller; the deadline only ever shortens it. */
+        private int ownTimeout;
+
+        DeadlineStatement(Statement target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Method method, Object[] args, JdbcCall call) throws Throwable {
+            String name = method.getName();
+            if (name.equals("setQueryTimeout")) {
+                ownTimeout = (Integer) args[0];
+            } else if (name.startsWith("execute")) {
+                applyDeadline();
+            }
+            return call.proceed();
+        }
+
+        private void applyDeadline() throws SQLException {
+            Deadline deadline = Deadline.current().orElse(null);
+            if (deadline == null) {
+                return;
+            }
+            long remainingMillis = deadline.remaining().toMillis();
+            if (remainingMillis <= 0) {
+                throw new SQLTimeoutException("Request deadline exceeded before the statement was run");
+            }
+            int seconds = (int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000);
+            target.setQueryTimeout(ownTimeout > 0 ? Math.min(ownTimeout, seconds) : seconds);
+        }
+    }
+}
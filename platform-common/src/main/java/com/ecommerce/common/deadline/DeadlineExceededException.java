@@ -0,0 +1,7 @@
+package com.ecommerce.common.deadline;
+
+public class DeadlineExceededException extends RuntimeException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
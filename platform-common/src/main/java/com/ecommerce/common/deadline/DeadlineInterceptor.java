@@ -0,0 +1,66 @@
+package com.ecommerce.common.deadline;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Gives each request a deadline: the budget in the {@value Deadline#HEADER} header,
+ * capped at a maximum, or a default budget when the header is missing or invalid.
+ * Without a default budget such requests have no deadline.
+ */
+public class DeadlineInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineInterceptor.class);
+
+    private final Duration defaultBudget;
+    private final Duration maxBudget;
+
+    /**
+     * @param defaultBudget budget of requests without a valid header, or {@code null} for none
+     */
+    public DeadlineInterceptor(Duration defaultBudget, Duration maxBudget) {
+        this.defaultBudget = defaultBudget;
+        this.maxBudget = maxBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        Duration budget = budget(request.getHeader(Deadline.HEADER));
+        if (budget == null) {
+            return true;
+        }
+        if (budget.isZero() || budget.isNegative()) {
+            throw new DeadlineExceededException("Request deadline exceeded on arrival");
+        }
+        Deadline.set(Deadline.after(budget));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Deadline.clear();
+    }
+
+    private Duration budget(String header) {
+        if (header == null || header.isBlank()) {
+            return defaultBudget;
+        }
+        try {
+            Duration requested = Duration.ofMillis(Long.parseLong(header.trim()));
+            return requested.compareTo(maxBudget) > 0 ? maxBudget : requested;
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring invalid {} header: {}", Deadline.HEADER, header);
+            return defaultBudget;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.ecommerce.common.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Base for {@link DataSource} wrappers that observe or adjust the connections they hand
+ * out and the statements created on them.
+ *
+ * Every connection fetched from the target is wrapped in a proxy, and so is every
+ * statement it creates; a subclass only says what to do about them through a
+ * {@link ConnectionInterceptor} per connection and a {@link StatementInterceptor} per
+ * statement. The proxies answer {@code equals} and {@code hashCode} by identity, and a
+ * statement's {@code getConnection()} returns the connection proxy, not the target.
+ */
+public abstract class InterceptingDataSource extends DelegatingDataSource {
+
+    protected InterceptingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Called on the fetching thread for every connection fetched from the target.
+     */
+    protected abstract ConnectionInterceptor interceptConnection(Connection connection);
+
+    /**
+     * What to do about one connection and the statements created on it.
+     */
+    @FunctionalInterface
+    public interface ConnectionInterceptor {
+
+        /**
+         * @param sql the SQL the statement was prepared with, or {@code null} for a plain
+         *            {@link Statement}
+         */
+        StatementInterceptor interceptStatement(Statement statement, String sql);
+
+        /**
+         * Called once, on the first {@code close()}, before the target is closed.
+         */
+        default void closing() {
+        }
+    }
+
+    /**
+     * Sees every call on one statement other than {@code equals}, {@code hashCode} and
+     * {@code getConnection}.
+     */
+    @FunctionalInterface
+    public interface StatementInterceptor {
+
+        /**
+         * @param call runs the method on the target statement and returns its result
+         */
+        Object invoke(Method method, Object[] args, JdbcCall call) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface JdbcCall {
+
+        Object proceed() throws Throwable;
+    }
+
+    private Connection wrap(Connection connection) {
+        ConnectionInterceptor interceptor = interceptConnection(connection);
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(connection, interceptor));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final ConnectionInterceptor interceptor;
+        private boolean closed;
+
+        ConnectionHandler(Connection target, ConnectionInterceptor interceptor) {
+            this.target = target;
+            this.interceptor = interceptor;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        interceptor.closing();
+                    }
+                    return InterceptingDataSource.invoke(target, method, args);
+                }
+                case "createStatement", "prepareStatement", "prepareCall" -> {
+                    Statement statement = (Statement) InterceptingDataSource.invoke(target, method, args);
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                    return Proxy.newProxyInstance(InterceptingDataSource.this.getClass().getClassLoader(),
+                            new Class<?>[] {method.getReturnType()},
+                            new StatementHandler(statement, (Connection) proxy,
+                                    interceptor.interceptStatement(statement, sql)));
+                }
+                default -> {
+                    return InterceptingDataSource.invoke(target, method, args);
+                }
+            }
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        private final StatementInterceptor interceptor;
+
+        StatementHandler(Statement target, Connection connection, StatementInterceptor interceptor) {
+            this.target = target;
+            this.connection = connection;
+            this.interceptor = interceptor;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "getConnection" -> {
+                    return connection;
+                }
+                default -> {
+                    return interceptor.invoke(method, args, () -> InterceptingDataSource.invoke(target, method, args));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.ecommerce.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples and rate-limits DEBUG/INFO statements of selected loggers before an event is
+ * even created. WARN and ERROR always pass.
+ *
+ * Configured in {@code logback-spring.xml}:
+ * <pre>
+ * &lt;turboFilter class="com.ecommerce.common.logging.SamplingTurboFilter"&gt;
+ *     &lt;rule&gt;
+ *         &lt;logger&gt;com.ecommerce.orderservice.controller&lt;/logger&gt;
+ *         &lt;sampleEvery&gt;10&lt;/sampleEvery&gt;
+ *         &lt;maxPerSecond&gt;100&lt;/maxPerSecond&gt;
+ *     &lt;/rule&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ * A rule applies to the named logger and its children; the most specific rule wins.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final Rule NO_RULE = new Rule();
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, Rule> rulesByLogger = new ConcurrentHashMap<>();
+
+    public void addRule(Rule rule) {
+        rules.add(rule);
+    }
+
+    @Override
+    public void start() {
+        for (Rule rule : rules) {
+            if (rule.getLogger() == null || rule.getSampleEvery() < 1 || rule.getMaxPerSecond() < 0) {
+                addError("Invalid sampling rule for logger [" + rule.getLogger() + "]");
+                return;
+            }
+        }
+        rules.sort(Comparator.comparingInt((Rule rule) -> rule.getLogger().length()).reversed());
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() checks arrive without a format and must not use up the budget
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Rule rule = rulesByLogger.computeIfAbsent(logger.getName(), this::findRule);
+        if (rule == NO_RULE || rule.admit()) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    private Rule findRule(String loggerName) {
+        for (Rule rule : rules) {
+            String prefix = rule.getLogger();
+            if (loggerName.equals(prefix) || loggerName.startsWith(prefix + ".")) {
+                return rule;
+            }
+        }
+        return NO_RULE;
+    }
+
+    /**
+     * Keeps one statement in {@code sampleEvery} and at most {@code maxPerSecond} per
+     * second (0 = unlimited) for a logger and its children.
+     */
+    public static class Rule {
+
+        private String logger;
+        private int sampleEvery = 1;
+        private int maxPerSecond;
+
+        private final AtomicLong seen = new AtomicLong();
+        private final AtomicLong currentSecond = new AtomicLong();
+        private final AtomicInteger admittedThisSecond = new AtomicInteger();
+
+        boolean admit() {
+            if (sampleEvery > 1 && seen.getAndIncrement() % sampleEvery != 0) {
+                return false;
+            }
+            if (maxPerSecond == 0) {
+                return true;
+            }
+            long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+            long window = currentSecond.get();
+            if (second != window && currentSecond.compareAndSet(window, second)) {
+                admittedThisSecond.set(0);
+            }
+            return admittedThisSecond.incrementAndGet() <= maxPerSecond;
+        }
+
+        public String getLogger() {
+            return logger;
+        }
+
+        public void setLogger(String logger) {
+            this.logger = logger;
+        }
+
+        public int getSampleEvery() {
+            return sampleEvery;
+        }
+
+        public void setSampleEvery(int sampleEvery) {
+            this.sampleEvery = sampleEvery;
+        }
+
+        public int getMaxPerSecond() {
+            return maxPerSecond;
+        }
+
+        public void setMaxPerSecond(int maxPerSecond) {
+            this.maxPerSecond = maxPerSecond;
+        }
+    }
+}
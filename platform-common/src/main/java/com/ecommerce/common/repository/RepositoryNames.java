@@ -0,0 +1,34 @@
+package com.ecommerce.common.repository;
+
+import org.springframework.data.repository.Repository;
+
+/**
+ * Names Spring Data repository proxies after the application's repository interface,
+ * e.g. {@code OrderRepository} rather than {@code $Proxy123}, for profiles and traces.
+ */
+public final class RepositoryNames {
+
+    private static final ClassValue<String> NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> proxyClass) {
+            for (Class<?> candidate : proxyClass.getInterfaces()) {
+                if (Repository.class.isAssignableFrom(candidate)
+                        && !candidate.getName().startsWith("org.springframework.")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return proxyClass.getSimpleName();
+        }
+    };
+
+    private RepositoryNames() {
+    }
+
+    /**
+     * The application's repository interface implemented by a repository proxy, or the
+     * class's own name if there is none. Cached per class.
+     */
+    public static String of(Class<?> proxyClass) {
+        return NAMES.get(proxyClass);
+    }
+}
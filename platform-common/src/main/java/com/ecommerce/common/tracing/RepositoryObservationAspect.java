@@ -0,0 +1,32 @@
+package com.ecommerce.common.tracing;
+
+import com.ecommerce.common.repository.RepositoryNames;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * A span per Spring Data repository call, named after the application's repository
+ * interface and method, so database time shows up in traces next to the HTTP and
+ * messaging hops. Registered as a bean by each service's tracing configuration.
+ */
+@Aspect
+public class RepositoryObservationAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    public RepositoryObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object aroundRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String call = RepositoryNames.of(joinPoint.getThis().getClass()) + "." + joinPoint.getSignature().getName();
+        return Observation.createNotStarted("db.repository", observationRegistry)
+                .contextualName(call)
+                .lowCardinalityKeyValue("repository.method", call)
+                .observeChecked((Observation.CheckedCallable<Object, Throwable>) joinPoint::proceed);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.common.deadline;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineDataSourceTest {
+
+    private final DeadlineDataSource dataSource = new DeadlineDataSource(h2());
+
+    @AfterEach
+    void clearDeadline() {
+        Deadline.clear();
+    }
+
+    @Test
+    void leavesStatementsWithoutADeadlineAlone() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+            statement.executeQuery().close();
+            assertThat(statement.getQueryTimeout()).isZero();
+        }
+    }
+
+    @Test
+    void boundsStatementsByTheTimeLeftRoundedUpToSeconds() throws Exception {
+        Deadline.set(Deadline.after(Duration.ofMillis(2_500)));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+            statement.executeQuery().close();
+            assertThat(statement.getQueryTimeout()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void keepsAShorterTimeoutSetByTheCaller() throws Exception {
+        Deadline.set(Deadline.after(Duration.ofSeconds(30)));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+            statement.setQueryTimeout(1);
+            statement.executeQuery().close();
+            assertThat(statement.getQueryTimeout()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void doesNotRunStatementsOnceTheDeadlineHasPassed() throws Exception {
+        Deadline.set(Deadline.after(Duration.ZERO));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+            assertThatThrownBy(statement::executeQuery).isInstanceOf(SQLTimeoutException.class);
+        }
+    }
+
+    private static JdbcDataSource h2() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:deadline");
+        return dataSource;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ecommerce.common.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineInterceptorTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void clearDeadline() {
+        Deadline.clear();
+    }
+
+    @Test
+    void usesTheBudgetTheCallerSent() {
+        DeadlineInterceptor interceptor = new DeadlineInterceptor(Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+        interceptor.preHandle(request("2000"), response, null);
+
+        assertThat(Deadline.current().orElseThrow().remaining())
+                .isBetween(Duration.ofSeconds(1), Duration.ofSeconds(2));
+    }
+
+    @Test
+    void capsTheBudgetAtTheMaximum() {
+        DeadlineInterceptor interceptor = new DeadlineInterceptor(null, Duration.ofSeconds(5));
+
+        interceptor.preHandle(request("600000"), response, null);
+
+        assertThat(Deadline.current().orElseThrow().remaining()).isLessThanOrEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void fallsBackToTheDefaultBudget() {
+        DeadlineInterceptor interceptor = new DeadlineInterceptor(Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+        interceptor.preHandle(request("not a number"), response, null);
+
+        assertThat(Deadline.current().orElseThrow().remaining()).isGreaterThan(Duration.ofSeconds(9));
+    }
+
+    @Test
+    void setsNoDeadlineWithoutHeaderOrDefault() {
+        DeadlineInterceptor interceptor = new DeadlineInterceptor(null, Duration.ofSeconds(30));
+
+        interceptor.preHandle(request(null), response, null);
+
+        assertThat(Deadline.current()).isEmpty();
+    }
+
+    @Test
+    void rejectsRequestsThatArriveWithoutBudget() {
+        DeadlineInterceptor interceptor = new DeadlineInterceptor(null, Duration.ofSeconds(30));
+
+        assertThatThrownBy(() -> interceptor.preHandle(request("0"), response, null))
+                .isInstanceOf(DeadlineExceededException.class);
+    }
+
+    @Test
+    void clearsTheDeadlineAfterTheRequest() {
+        DeadlineInterceptor interceptor = new DeadlineInterceptor(Duration.ofSeconds(10), Duration.ofSeconds(30));
+        interceptor.preHandle(request(null), response, null);
+
+        interceptor.afterCompletion(request(null), response, null, null);
+
+        assertThat(Deadline.current()).isEmpty();
+    }
+
+    private static MockHttpServletRequest request(String budgetMillis) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/1");
+        if (budgetMillis != null) {
+            request.addHeader(Deadline.HEADER, budgetMillis);
+        }
+        return request;
+    }
+}
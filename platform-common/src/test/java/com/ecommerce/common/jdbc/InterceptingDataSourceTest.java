@@ -0,0 +1,92 @@
+package com.ecommerce.common.jdbc;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterceptingDataSourceTest {
+
+    private final List<String> events = new ArrayList<>();
+    private InterceptingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:intercepting");
+        dataSource = new InterceptingDataSource(target) {
+            @Override
+            protected ConnectionInterceptor interceptConnection(Connection connection) {
+                events.add("fetched");
+                return new ConnectionInterceptor() {
+                    @Override
+                    public StatementInterceptor interceptStatement(Statement statement, String sql) {
+                        events.add("statement " + sql);
+                        return (method, args, call) -> {
+                            events.add(method.getName());
+                            return call.proceed();
+                        };
+                    }
+
+                    @Override
+                    public void closing() {
+                        events.add("closing");
+                    }
+                };
+            }
+        };
+    }
+
+    @Test
+    void passesStatementCallsThroughTheInterceptor() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT ?")) {
+            statement.setInt(1, 42);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertThat(resultSet.next()).isTrue();
+                assertThat(resultSet.getInt(1)).isEqualTo(42);
+            }
+        }
+
+        assertThat(events).containsExactly(
+                "fetched", "statement SELECT ?", "setInt", "executeQuery", "close", "closing");
+    }
+
+    @Test
+    void reportsPlainStatementsWithoutSql() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+
+        assertThat(events).contains("statement null", "execute");
+    }
+
+    @Test
+    void statementsReturnTheWrappedConnection() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertThat(statement.getConnection()).isSameAs(connection);
+            assertThat(connection).isEqualTo(connection);
+            assertThat(connection.hashCode()).isEqualTo(System.identityHashCode(connection));
+        }
+    }
+
+    @Test
+    void reportsClosingOnce() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertThat(events).containsOnlyOnce("closing");
+        assertThat(connection.isClosed()).isTrue();
+    }
+}
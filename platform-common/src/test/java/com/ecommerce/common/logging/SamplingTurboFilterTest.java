@@ -0,0 +1,110 @@
+package com.ecommerce.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        filter = new SamplingTurboFilter();
+        filter.setContext(context);
+    }
+
+    @Test
+    void keepsOneInSampleEvery() {
+        filter.addRule(rule("com.example.web", 3, 0));
+        filter.start();
+
+        Logger logger = context.getLogger("com.example.web.Controller");
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void capsStatementsPerSecond() {
+        filter.addRule(rule("com.example.web", 1, 2));
+        filter.start();
+
+        Logger logger = context.getLogger("com.example.web");
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        // Unless the second rolled over between the calls
+        assertThat(decide(logger, Level.DEBUG)).isIn(FilterReply.DENY, FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void alwaysPassesWarnAndError() {
+        filter.addRule(rule("com.example", 1_000, 1));
+        filter.start();
+
+        Logger logger = context.getLogger("com.example.Service");
+        decide(logger, Level.INFO);
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(logger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(logger, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void appliesTheMostSpecificRuleToALoggerAndItsChildren() {
+        filter.addRule(rule("com.example", 1_000, 0));
+        filter.addRule(rule("com.example.web", 1, 0));
+        filter.start();
+
+        Logger web = context.getLogger("com.example.web.Controller");
+        Logger service = context.getLogger("com.example.Service");
+        Logger unrelated = context.getLogger("com.examples.Other");
+        for (int i = 0; i < 5; i++) {
+            assertThat(decide(web, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(unrelated, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        }
+        assertThat(decide(service, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(service, Level.INFO)).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void doesNotCountLevelChecksOrDisabledStatements() {
+        filter.addRule(rule("com.example", 2, 0));
+        filter.start();
+
+        Logger logger = context.getLogger("com.example");
+        logger.setLevel(Level.INFO);
+        assertThat(filter.decide(null, logger, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void doesNotStartWithAnInvalidRule() {
+        filter.addRule(rule("com.example", 0, 0));
+        filter.start();
+
+        assertThat(filter.isStarted()).isFalse();
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message {}", new Object[] {1}, null);
+    }
+
+    private static SamplingTurboFilter.Rule rule(String logger, int sampleEvery, int maxPerSecond) {
+        SamplingTurboFilter.Rule rule = new SamplingTurboFilter.Rule();
+        rule.setLogger(logger);
+        rule.setSampleEvery(sampleEvery);
+        rule.setMaxPerSecond(maxPerSecond);
+        return rule;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecommerce.common.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.repository.CrudRepository;
+
+import java.lang.reflect.Proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryNamesTest {
+
+    interface CustomerRepository extends CrudRepository<Object, Long> {
+    }
+
+    @Test
+    void namesAProxyAfterTheApplicationRepository() {
+        Object proxy = Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {CrudRepository.class, CustomerRepository.class}, (p, method, args) -> null);
+
+        assertThat(RepositoryNames.of(proxy.getClass())).isEqualTo("CustomerRepository");
+    }
+
+    @Test
+    void fallsBackToTheClassName() {
+        assertThat(RepositoryNames.of(String.class)).isEqualTo("String");
+    }
+}
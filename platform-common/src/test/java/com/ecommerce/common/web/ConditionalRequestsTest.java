@@ -0,0 +1,46 @@
+package com.ecommerce.common.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConditionalRequestsTest {
+
+    @Test
+    void matchesOneOfTheListedTags() {
+        WebRequest request = ifNoneMatch("\"a\", \"b-42\"");
+
+        assertThat(ConditionalRequests.isConditional(request)).isTrue();
+        assertThat(ConditionalRequests.matchesIfNoneMatch(request, "\"b-42\"")).isTrue();
+        assertThat(ConditionalRequests.matchesIfNoneMatch(request, "\"b-43\"")).isFalse();
+    }
+
+    @Test
+    void comparesWeakly() {
+        assertThat(ConditionalRequests.matchesIfNoneMatch(ifNoneMatch("W/\"v1\""), "\"v1\"")).isTrue();
+        assertThat(ConditionalRequests.matchesIfNoneMatch(ifNoneMatch("\"v1\""), "W/\"v1\"")).isTrue();
+    }
+
+    @Test
+    void wildcardMatchesAnyTag() {
+        assertThat(ConditionalRequests.matchesIfNoneMatch(ifNoneMatch("*"), "\"anything\"")).isTrue();
+    }
+
+    @Test
+    void requestWithoutTheHeaderIsNotConditional() {
+        WebRequest request = ifNoneMatch(null);
+
+        assertThat(ConditionalRequests.isConditional(request)).isFalse();
+        assertThat(ConditionalRequests.matchesIfNoneMatch(request, "\"v1\"")).isFalse();
+    }
+
+    private static WebRequest ifNoneMatch(String value) {
+        WebRequest request = mock(WebRequest.class);
+        when(request.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn(value);
+        return request;
+    }
+}